@@ -0,0 +1,96 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game.benchmark;
+
+import game.CircleAngle;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class CircleAngleBenchmark {
+
+    private CircleAngle angle;
+    private CircleAngle otherAngle;
+    private double factor;
+
+    @Setup
+    public void setup() {
+        angle = new CircleAngle(5.9);
+        otherAngle = new CircleAngle(1.3);
+        factor = 2.5;
+    }
+
+    @Benchmark
+    public CircleAngle create() {
+        return new CircleAngle(angle.get() * factor);
+    }
+
+    @Benchmark
+    public CircleAngle add() {
+        return angle.add(otherAngle);
+    }
+
+    @Benchmark
+    public CircleAngle subtract() {
+        return angle.subtract(otherAngle);
+    }
+
+    @Benchmark
+    public CircleAngle multiply() {
+        return angle.multiply(factor);
+    }
+
+    @Benchmark
+    public CircleAngle divide() {
+        return angle.divide(factor);
+    }
+
+    @Benchmark
+    public CircleAngle smallerAngleBetween() {
+        return CircleAngle.smallerAngleBetween(angle, otherAngle);
+    }
+
+    @Benchmark
+    public CircleAngle oppositeAngle() {
+        return CircleAngle.oppositeAngle(angle);
+    }
+
+    @Benchmark
+    public boolean isBetween() {
+        return angle.isBetween(otherAngle, CircleAngle.DEGREE_90);
+    }
+
+    @Benchmark
+    public boolean isBetweenOrEqual() {
+        return angle.isBetweenOrEqual(otherAngle, CircleAngle.DEGREE_90);
+    }
+
+    @Benchmark
+    public double getAngleInRange() {
+        return CircleAngle.getAngleInRange(-angle.get() * factor);
+    }
+
+}
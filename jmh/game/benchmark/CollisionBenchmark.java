@@ -0,0 +1,81 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game.benchmark;
+
+import game.CircleAngle;
+import game.Collidable;
+import game.gameFieldObjects.FixedBlock;
+import game.gameFieldObjects.GameBall;
+import game.gameFieldObjects.Wall;
+
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    @Param({
+            "CIRCLE_CIRCLE", "CIRCLE_SQUARE", "CIRCLE_LINE",
+            "SQUARE_CIRCLE", "SQUARE_SQUARE", "SQUARE_LINE",
+            "LINE_CIRCLE", "LINE_SQUARE", "LINE_LINE"
+    })
+    private String shapePair;
+
+    private Collidable objectOne;
+    private Collidable objectTwo;
+
+    @Setup
+    public void setup() {
+        String[] shapes = shapePair.split("_");
+        // Both objects overlap, so every test runs through to its last check.
+        objectOne = createObject(shapes[0], 100, 100);
+        objectTwo = createObject(shapes[1], 112, 106);
+    }
+
+    private static Collidable createObject(String shape, double posX, double posY) {
+        switch (shape) {
+            case "CIRCLE":
+                return new GameBall(posX, posY, 10, new CircleAngle(1), 1);
+            case "SQUARE":
+                return new FixedBlock(posX, posY, 16, Color.GRAY);
+            case "LINE":
+                return new Wall(posX - 20, posY - 5, 40, new CircleAngle(0.3), Color.GRAY);
+            default:
+                throw new IllegalArgumentException(shape);
+        }
+    }
+
+    @Benchmark
+    public boolean isCollidingWith() {
+        return objectOne.isCollidingWith(objectTwo);
+    }
+
+    @Benchmark
+    public CircleAngle getCollisionAngle() {
+        return objectOne.getCollisionAngle(objectTwo);
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game.benchmark;
+
+import game.CircleAngle;
+import game.GeometryLogic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class GeometryLogicBenchmark {
+
+    private double pointX;
+    private double pointY;
+    private double otherPointX;
+    private double otherPointY;
+    private CircleAngle collisionAngle;
+    private CircleAngle direction;
+
+    @Setup
+    public void setup() {
+        pointX = 120;
+        pointY = 80;
+        otherPointX = 95;
+        otherPointY = 130;
+        collisionAngle = new CircleAngle(2.1);
+        direction = new CircleAngle(5.2);
+    }
+
+    @Benchmark
+    public CircleAngle angleToPoint() {
+        return GeometryLogic.angleToPoint(pointX, pointY, otherPointX, otherPointY);
+    }
+
+    @Benchmark
+    public CircleAngle getDirectionAfterCollision() {
+        return GeometryLogic.getDirectionAfterCollision(collisionAngle, direction);
+    }
+
+}
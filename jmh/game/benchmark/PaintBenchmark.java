@@ -0,0 +1,67 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game.benchmark;
+
+import game.Helpers;
+import game.gui.GamePanel;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class PaintBenchmark {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 400;
+
+    @Param({"10", "100", "1000"})
+    private int numberOfBalls;
+
+    private GamePanel gamePanel;
+    private BufferedImage image;
+
+    @Setup
+    public void setup() {
+        Helpers.RANDOM.setSeed(numberOfBalls);
+        gamePanel = new GamePanel(WIDTH, HEIGHT, () -> {}, () -> {});
+        gamePanel.setSize(WIDTH, HEIGHT);
+        gamePanel.setupStressTest(numberOfBalls);
+        image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        Graphics2D g = image.createGraphics();
+        try {
+            gamePanel.paint(g);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game.benchmark;
+
+import game.GameEventListener;
+import game.GameSimulation;
+import game.GameSounds;
+import game.Helpers;
+import game.RenderSnapshot;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// The work of GamePanel.run on the game loop thread: the simulation step, the sounds requested
+// during the step and the snapshot for the painting. Only the Swing calls are left out.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class PanelTickBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int numberOfBalls;
+
+    private GameSimulation simulation;
+    private GameSounds gameSounds;
+    private final RenderSnapshot[] snapshots = new RenderSnapshot[RenderSnapshot.NUMBER_OF_BUFFERS];
+    private int ticks;
+
+    // Every iteration starts from the same arrangement, so the balls don't clump together
+    // over the course of a run.
+    @Setup(Level.Iteration)
+    public void setup() {
+        Helpers.RANDOM.setSeed(numberOfBalls);
+        gameSounds = GameSounds.getInstance();
+        simulation = new GameSimulation(800, 400, new GameEventListener() {
+            @Override
+            public void playSound(int soundType) {
+                gameSounds.playSound(soundType);
+            }
+        });
+        simulation.setupStressTest(numberOfBalls);
+        for (int i = 0; i < snapshots.length; i++) {
+            snapshots[i] = new RenderSnapshot(i);
+        }
+    }
+
+    @Benchmark
+    public RenderSnapshot tick() {
+        simulation.step();
+        gameSounds.dispatchRequestedSounds();
+        // Like the game panel while the painting keeps up, the buffers take turns.
+        RenderSnapshot snapshot = snapshots[ticks++ % snapshots.length];
+        simulation.updateSnapshot(snapshot);
+        return snapshot;
+    }
+
+}
@@ -18,29 +18,45 @@
 
 package game;
 
+import java.nio.ShortBuffer;
+
 import javax.sound.sampled.AudioFormat;
-import java.util.Arrays;
 
+// Decoded samples of a sound in the format of the AudioMixer. The samples are shared by all
+// voices playing the sound and can't be changed.
 public final class AudioArray {
 
-    private final byte[] audioData;
-    private final AudioFormat audioFormat;
+    private static final int CHANNELS = AudioMixer.FORMAT.getChannels();
+
+    private final String name;
+    private final ShortBuffer samples;
+
+    // Takes 16 bit little-endian stereo data as read from a stream in the mixer format.
+    public AudioArray(String name, byte[] audioData) {
+        this.name = name;
+        int numberOfSamples = audioData.length / 2;
+        short[] decodedSamples = new short[numberOfSamples - numberOfSamples % CHANNELS];
+        for (int i = 0; i < decodedSamples.length; i++) {
+            decodedSamples[i] = (short) ((audioData[i * 2 + 1] << 8) | (audioData[i * 2] & 0xff));
+        }
+        samples = ShortBuffer.wrap(decodedSamples).asReadOnlyBuffer();
+    }
 
-    public AudioArray(byte[] audioData, AudioFormat audioFormat) {
-        this.audioData = audioData;
-        this.audioFormat = audioFormat;
+    public String getName() {
+        return name;
     }
 
-    public int getBufferSize() {
-        return audioData.length - audioData.length % 4;
+    // Only read with absolute positions, so all threads can use the same buffer.
+    public ShortBuffer getSamples() {
+        return samples;
     }
 
-    public byte[] getAudioData() {
-        return Arrays.copyOf(audioData, audioData.length);
+    public int getNumberOfSamples() {
+        return samples.capacity();
     }
 
     public AudioFormat getAudioFormat() {
-        return audioFormat;
+        return AudioMixer.FORMAT;
     }
 
 }
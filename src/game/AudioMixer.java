@@ -0,0 +1,234 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import static game.GameConstants.*;
+
+import game.events.SoundPlayedEvent;
+
+import java.nio.ShortBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.sound.sampled.*;
+
+// Mixes all sounds into one long-lived output line on its own thread. Playing a sound only puts
+// a request into a queue, so the game loop and the event dispatch thread never wait for audio.
+public class AudioMixer implements Runnable {
+
+    public static final AudioFormat FORMAT = new AudioFormat(48000, 16, 2, true, false);
+
+    private static final int CHANNELS = 2;
+    private static final int BYTES_PER_SAMPLE = 2;
+    private static final int REQUEST_QUEUE_SIZE = 64;
+
+    private final Voice[] voices;
+    private final int[] mixBuffer = new int[SOUND_BUFFER_FRAMES * CHANNELS];
+    private final byte[] outputBuffer = new byte[SOUND_BUFFER_FRAMES * CHANNELS * BYTES_PER_SAMPLE];
+
+    // Requests are claimed by the playing threads with the tail and published by setting the
+    // data of their slot. Only the audio thread takes them out again and moves the head.
+    private final AtomicReferenceArray<AudioArray> requestSounds = new AtomicReferenceArray<>(REQUEST_QUEUE_SIZE);
+    private final float[] requestGains = new float[REQUEST_QUEUE_SIZE];
+    private final long[] requestNanos = new long[REQUEST_QUEUE_SIZE];
+    private final AtomicLong requestTail = new AtomicLong();
+    private volatile long requestHead;
+    private final AtomicLong droppedRequests = new AtomicLong();
+    private volatile long stolenVoices;
+
+    private volatile MusicStream music;
+
+    private SourceDataLine line;
+    private Thread thread;
+    private volatile boolean running;
+
+    public AudioMixer(int maxVoices) {
+        voices = new Voice[maxVoices];
+        for (int i = 0; i < maxVoices; i++) {
+            voices[i] = new Voice();
+        }
+    }
+
+    public void start() {
+        try {
+            line = AudioSystem.getSourceDataLine(FORMAT);
+            line.open(FORMAT, outputBuffer.length * SOUND_LINE_BUFFERS);
+            line.start();
+        } catch (Exception e) {
+            System.out.println("Die Audioausgabe konnte nicht geoeffnet werden.");
+            System.out.println(e.getMessage());
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "Dotger-Audio");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
+    }
+
+    public void setMusic(MusicStream music) {
+        this.music = music;
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Never blocks, if the queue is full the sound is dropped.
+    public boolean play(AudioArray sound, float gain) {
+        if (!running || sound == null) {
+            return false;
+        }
+        long tail;
+        do {
+            tail = requestTail.get();
+            if (tail - requestHead >= REQUEST_QUEUE_SIZE) {
+                droppedRequests.incrementAndGet();
+                return false;
+            }
+        } while (!requestTail.compareAndSet(tail, tail + 1));
+        int slot = (int) (tail % REQUEST_QUEUE_SIZE);
+        requestGains[slot] = gain;
+        requestNanos[slot] = System.nanoTime();
+        requestSounds.set(slot, sound);
+        return true;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            mix(outputBuffer, SOUND_BUFFER_FRAMES);
+            line.write(outputBuffer, 0, outputBuffer.length);
+        }
+        line.drain();
+        line.close();
+    }
+
+    // Mixes the next frames of all playing voices into the output buffer.
+    void mix(byte[] output, int frames) {
+        startRequestedVoices();
+        int samples = frames * CHANNELS;
+        Arrays.fill(mixBuffer, 0, samples, 0);
+        for (Voice voice : voices) {
+            if (voice.samples != null) {
+                voice.mixInto(mixBuffer, samples);
+            }
+        }
+        MusicStream currentMusic = music;
+        if (currentMusic != null) {
+            currentMusic.mixInto(mixBuffer, samples);
+        }
+        for (int i = 0; i < samples; i++) {
+            int sample = Math.min(Math.max(mixBuffer[i], Short.MIN_VALUE), Short.MAX_VALUE);
+            output[i * 2] = (byte) sample;
+            output[i * 2 + 1] = (byte) (sample >> 8);
+        }
+    }
+
+    private void startRequestedVoices() {
+        while (true) {
+            int slot = (int) (requestHead % REQUEST_QUEUE_SIZE);
+            AudioArray sound = requestSounds.get(slot);
+            if (sound == null) {
+                return;
+            }
+            long stolenBefore = stolenVoices;
+            getFreeVoice().start(sound.getSamples(), requestGains[slot]);
+            SoundPlayedEvent.commit(sound.getName(), System.nanoTime() - requestNanos[slot], stolenVoices != stolenBefore);
+            requestSounds.set(slot, null);
+            requestHead++;
+        }
+    }
+
+    // If all voices are playing, the one closest to its end is cut off, it is the least missed.
+    private Voice getFreeVoice() {
+        Voice voiceToSteal = voices[0];
+        for (Voice voice : voices) {
+            if (voice.samples == null) {
+                return voice;
+            }
+            if (voice.getRemainingSamples() < voiceToSteal.getRemainingSamples()) {
+                voiceToSteal = voice;
+            }
+        }
+        stolenVoices++;
+        return voiceToSteal;
+    }
+
+    public static AudioInputStream toMixerFormat(AudioInputStream stream) {
+        if (stream.getFormat().matches(FORMAT)) {
+            return stream;
+        }
+        return AudioSystem.getAudioInputStream(FORMAT, stream);
+    }
+
+    public int getNumberOfPlayingVoices() {
+        int playing = 0;
+        for (Voice voice : voices) {
+            if (voice.samples != null) {
+                playing++;
+            }
+        }
+        return playing;
+    }
+
+    public long getDroppedRequests() {
+        return droppedRequests.get();
+    }
+
+    public long getStolenVoices() {
+        return stolenVoices;
+    }
+
+    private static final class Voice {
+
+        // The shared samples of the sound, read without copying them.
+        private ShortBuffer samples;
+        private int position;
+        private float gain;
+
+        private void start(ShortBuffer samples, float gain) {
+            this.samples = samples;
+            this.gain = gain;
+            position = 0;
+        }
+
+        private int getRemainingSamples() {
+            return samples.capacity() - position;
+        }
+
+        private void mixInto(int[] mixBuffer, int numberOfSamples) {
+            int samplesToMix = Math.min(numberOfSamples, getRemainingSamples());
+            for (int i = 0; i < samplesToMix; i++) {
+                mixBuffer[i] += (int) (samples.get(position + i) * gain);
+            }
+            position += samplesToMix;
+            if (position >= samples.capacity()) {
+                samples = null;
+            }
+        }
+
+    }
+
+}
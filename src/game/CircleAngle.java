@@ -18,96 +18,168 @@
 
 package game;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-
 import static game.Helpers.*;
 
 public final class CircleAngle {
 
-	private static final BigDecimal BIG_PI = new BigDecimal(Math.PI);
+	private static final double FULL_ANGLE = Math.PI * 2;
+	private static final int CACHE_INDEX_BITS = 6;
 	public static final CircleAngle DEGREE_0 = new CircleAngle(0);
-	public static final CircleAngle DEGREE_45 = new CircleAngle(BIG_PI.multiply(new BigDecimal("0.25")));
-	public static final CircleAngle DEGREE_90 = new CircleAngle(BIG_PI.multiply(new BigDecimal("0.5")));
-	public static final CircleAngle DEGREE_135 = new CircleAngle(BIG_PI.multiply(new BigDecimal("0.75")));
-	public static final CircleAngle DEGREE_180 = new CircleAngle(BIG_PI);
-	public static final CircleAngle DEGREE_225 = new CircleAngle(BIG_PI.multiply(new BigDecimal("1.25")));
-	public static final CircleAngle DEGREE_270 = new CircleAngle(BIG_PI.multiply(new BigDecimal("1.5")));
-	public static final CircleAngle DEGREE_315 = new CircleAngle(BIG_PI.multiply(new BigDecimal("1.75")));
+	public static final CircleAngle DEGREE_45 = new CircleAngle(Math.PI * 0.25);
+	public static final CircleAngle DEGREE_90 = new CircleAngle(Math.PI * 0.5);
+	public static final CircleAngle DEGREE_135 = new CircleAngle(Math.PI * 0.75);
+	public static final CircleAngle DEGREE_180 = new CircleAngle(Math.PI);
+	public static final CircleAngle DEGREE_225 = new CircleAngle(Math.PI * 1.25);
+	public static final CircleAngle DEGREE_270 = new CircleAngle(Math.PI * 1.5);
+	public static final CircleAngle DEGREE_315 = new CircleAngle(Math.PI * 1.75);
 	
-	private final BigDecimal angle;
+	// Angles created by valueOf. Angles computed again and again every game tick come from here
+	// instead of creating new objects. The cache may be used by several threads, a lost update
+	// only leads to a new object.
+	private static final CircleAngle[] CACHE = new CircleAngle[1 << CACHE_INDEX_BITS];
+
+	private final double angle;
 	
 	public CircleAngle() {
-		this.angle = new BigDecimal(0);
+		this.angle = 0.0;
 	}
 	
 	public CircleAngle(double angle) {
-		this.angle = getAngleInRange(new BigDecimal(angle));
+		this.angle = getAngleInRange(angle);
 	}
 
-	public CircleAngle(BigDecimal angle) {
-		this.angle = getAngleInRange(angle);
+	// Reducing an angle in range again would turn the full angle, which small negative angles
+	// round to, into 0.
+	private CircleAngle(double angleInRange, boolean inRange) {
+		this.angle = angleInRange;
 	}
 	
+	public static CircleAngle valueOf(double angle) {
+		double angleInRange = getAngleInRange(angle);
+		// Multiples of 45 degrees share most of their lower bits, the multiplication spreads them
+		// over the whole cache.
+		int cacheIndex = (Double.hashCode(angleInRange) * 0x9E3779B9) >>> (Integer.SIZE - CACHE_INDEX_BITS);
+		CircleAngle cachedAngle = CACHE[cacheIndex];
+		if (cachedAngle != null && cachedAngle.angle == angleInRange) {
+			return cachedAngle;
+		}
+		CircleAngle newAngle = new CircleAngle(angleInRange, true);
+		CACHE[cacheIndex] = newAngle;
+		return newAngle;
+	}
+
 	public static CircleAngle smallerAngleBetween(CircleAngle angle, CircleAngle otherAngle) {
-		double difference = Math.abs(angle.get() - otherAngle.get());
-		if (difference > DEGREE_180.get()) {
+		return new CircleAngle(smallerAngleBetween(angle.get(), otherAngle.get()));
+	}
+
+	public static double smallerAngleBetween(double angle, double otherAngle) {
+		double difference = Math.abs(angle - otherAngle);
+		if (difference > Math.PI) {
 			difference = -difference;
 		}
-		return new CircleAngle(difference);
+		return getAngleInRange(difference);
 	}
 
 	public static CircleAngle oppositeAngle(CircleAngle angle) {
 		return angle.add(DEGREE_180);
 	}
 
+	public static double oppositeAngle(double angle) {
+		return add(angle, DEGREE_180.angle);
+	}
+
 	public static CircleAngle randomAngle() {
 		return new CircleAngle(RANDOM.nextDouble(Math.PI * 2));
 	}
 
 	public CircleAngle add(CircleAngle otherAngle) {
-		return new CircleAngle(angle.add(otherAngle.getBigDecimalValue()));
+		if (otherAngle.angle == 0.0) {
+			return this;
+		}
+		return new CircleAngle(angle + otherAngle.angle);
+	}
+
+	public static double add(double angle, double otherAngle) {
+		if (otherAngle == 0.0) {
+			return angle;
+		}
+		return getAngleInRange(angle + otherAngle);
 	}
 
 	public CircleAngle subtract(CircleAngle otherAngle) {
-		return new CircleAngle(angle.subtract(otherAngle.getBigDecimalValue()));
+		if (otherAngle.angle == 0.0) {
+			return this;
+		}
+		return new CircleAngle(angle - otherAngle.angle);
+	}
+
+	public static double subtract(double angle, double otherAngle) {
+		if (otherAngle == 0.0) {
+			return angle;
+		}
+		return getAngleInRange(angle - otherAngle);
 	}
 
 	public CircleAngle multiply(double multiplier) {
-		return new CircleAngle(angle.multiply(new BigDecimal(multiplier)));
+		if (multiplier == 1.0) {
+			return this;
+		}
+		return new CircleAngle(angle * multiplier);
+	}
+
+	public static double multiply(double angle, double multiplier) {
+		if (multiplier == 1.0) {
+			return angle;
+		}
+		return getAngleInRange(angle * multiplier);
 	}
 
 	public CircleAngle divide(double divisor) {
-		return new CircleAngle(angle.divide(new BigDecimal(divisor), 50, RoundingMode.HALF_UP));
+		if (divisor == 1.0) {
+			return this;
+		}
+		return new CircleAngle(angle / divisor);
+	}
+
+	public static double divide(double angle, double divisor) {
+		if (divisor == 1.0) {
+			return angle;
+		}
+		return getAngleInRange(angle / divisor);
 	}
 
 	public boolean isBetween(CircleAngle firstAngle, CircleAngle secondAngle) {
-		if (firstAngle.get() >= secondAngle.get()) {
-			BigDecimal fullAngle = BIG_PI.multiply(new BigDecimal("2"));
-			double lowestAngle = 0.0;
-			return (angle.doubleValue() > firstAngle.get() && angle.doubleValue() <= fullAngle.doubleValue())
-					|| (angle.doubleValue() >= lowestAngle && angle.doubleValue() < secondAngle.get());
+		return isBetween(angle, firstAngle.angle, secondAngle.angle);
+	}
+
+	public static boolean isBetween(double angle, double firstAngle, double secondAngle) {
+		if (firstAngle >= secondAngle) {
+			return (angle > firstAngle && angle <= FULL_ANGLE) || (angle >= 0.0 && angle < secondAngle);
 		} else {
-			return angle.doubleValue() > firstAngle.get() && angle.doubleValue() < secondAngle.get();
+			return angle > firstAngle && angle < secondAngle;
 		}
 	}
 
 	public boolean isBetweenOrEqual(CircleAngle firstAngle, CircleAngle secondAngle) {
-		if (firstAngle.get() >= secondAngle.get()) {
-			BigDecimal fullAngle = BIG_PI.multiply(new BigDecimal("2"));
-			double lowestAngle = 0.0;
-			return (angle.doubleValue() >= firstAngle.get() && angle.doubleValue() <= fullAngle.doubleValue())
-					|| (angle.doubleValue() >= lowestAngle && angle.doubleValue() <= secondAngle.get());
+		return isBetweenOrEqual(angle, firstAngle.angle, secondAngle.angle);
+	}
+
+	public static boolean isBetweenOrEqual(double angle, double firstAngle, double secondAngle) {
+		if (firstAngle >= secondAngle) {
+			return (angle >= firstAngle && angle <= FULL_ANGLE) || (angle >= 0.0 && angle <= secondAngle);
 		} else {
-			return angle.doubleValue() >= firstAngle.get() && angle.doubleValue() <= secondAngle.get();
+			return angle >= firstAngle && angle <= secondAngle;
 		}
 	}
 
-	private BigDecimal getAngleInRange(BigDecimal angle) {
-		BigDecimal degree360 = new BigDecimal(Math.PI).multiply(new BigDecimal("2"));
-		BigDecimal remainderAngle = angle.remainder(degree360);
-		if (angle.compareTo(new BigDecimal("0")) < 0) {
-			return degree360.subtract(remainderAngle.abs());
+	public static double getAngleInRange(double angle) {
+		if (Double.isNaN(angle) || Double.isInfinite(angle)) {
+			throw new NumberFormatException("Infinite or NaN");
+		}
+		// The remainder of a double division is exact. Adding 0.0 turns -0.0 into 0.0.
+		double remainderAngle = angle % FULL_ANGLE + 0.0;
+		if (angle < 0) {
+			return FULL_ANGLE - Math.abs(remainderAngle);
 		} else {
 			return remainderAngle;
 		}
@@ -117,18 +189,19 @@ public final class CircleAngle {
 	public boolean equals(Object object) {
 		if (this == object) {
 			return true;
-		} else if (this.getClass() != object.getClass()) {
+		} else if (object == null || this.getClass() != object.getClass()) {
 			return false;
 		}
 		CircleAngle other = (CircleAngle) object;
-		return this.getBigDecimalValue().compareTo(other.getBigDecimalValue()) == 0;
+		return this.angle == other.angle;
+	}
+
+	@Override
+	public int hashCode() {
+		return Double.hashCode(angle);
 	}
 	
 	public double get() {
-		return angle.doubleValue();
-	}
-
-	private BigDecimal getBigDecimalValue() {
 		return angle;
 	}
 
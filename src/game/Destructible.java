@@ -19,9 +19,10 @@
 package game;
 
 import game.animations.Animation;
+import game.animations.AnimationFactory;
 
 public interface Destructible {
 	
-	Animation[] getDestroyAnimations();
+	Animation[] getDestroyAnimations(AnimationFactory animationFactory);
 
 }
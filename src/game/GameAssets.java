@@ -0,0 +1,112 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game;
+
+import static game.GameConstants.*;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.imageio.ImageIO;
+
+// Loads the files of the game on a few worker threads at the same time. The window only waits
+// for the language and the background patterns, everything else is used once its future is done.
+public class GameAssets {
+
+    private static final GameAssets INSTANCE = new GameAssets();
+
+    public static GameAssets getInstance() {
+        return INSTANCE;
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final ExecutorService workers;
+    private final CompletableFuture<GameLanguage> language;
+    private final CompletableFuture<BufferedImage> pattern;
+    private final CompletableFuture<BufferedImage> gameOverPattern;
+    private volatile long windowAssetsMillis = -1;
+    private final AtomicBoolean firstFrameShown = new AtomicBoolean();
+
+    private GameAssets() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(
+                Math.min(ASSET_LOADER_MAX_THREADS, Runtime.getRuntime().availableProcessors()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "Dotger-Assets-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        language = load(GameLanguage::getInstance);
+        pattern = load(() -> loadImage("images/pattern.png"));
+        gameOverPattern = load(() -> loadImage("images/gameoverpattern.png"));
+    }
+
+    // The loader prints its own message and returns null if the file can't be loaded.
+    public <T> CompletableFuture<T> load(Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(loader, workers);
+    }
+
+    // Blocks until the window can be built, must not be called on the event dispatch thread.
+    public void awaitWindowAssets() {
+        CompletableFuture.allOf(language, pattern, gameOverPattern).join();
+        windowAssetsMillis = getMillisSinceStart();
+    }
+
+    public BufferedImage getPattern() {
+        return pattern.join();
+    }
+
+    public BufferedImage getGameOverPattern() {
+        return gameOverPattern.join();
+    }
+
+    // Called with every drawn frame, only the first one is logged.
+    public void firstFrameShown() {
+        if (firstFrameShown.get() || !firstFrameShown.compareAndSet(false, true)) {
+            return;
+        }
+        String message = "Erstes Bild nach " + getMillisSinceStart() + " ms";
+        if (windowAssetsMillis >= 0) {
+            message += ", die Dateien fuer das Fenster waren nach " + windowAssetsMillis + " ms geladen";
+        }
+        System.out.println(message + ".");
+    }
+
+    private long getMillisSinceStart() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private BufferedImage loadImage(String path) {
+        try {
+            return ImageIO.read(new File(path));
+        } catch (IOException e) {
+            System.out.println("Das Hintergrundmuster konnte nicht geladen werden.");
+            return null;
+        }
+    }
+
+}
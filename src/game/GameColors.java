@@ -39,6 +39,11 @@ public class GameColors {
 	public static final Color BUTTON_LOOSE_FOCUSED = getBrighterByValue(BUTTON_LOOSE, 25);
 	public static final Color HIGHLIGHT_POSITIVE = new Color(250, 220, 0);
 	public static final Color HIGHLIGHT_NEGATIVE = new Color(170, 0, 0);
+	public static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 180);
+	public static final Color OVERLAY_TEXT = new Color(230, 230, 230);
+	public static final Color OVERLAY_FRAME = new Color(0, 200, 0);
+	public static final Color OVERLAY_SLOW_FRAME = new Color(230, 60, 0);
+	public static final Color OVERLAY_BUDGET = new Color(120, 120, 120);
 	
 	public static final Color PLAYER = new Color(255, 255, 255);
 	public static final Color PLAYER_INVINCIBLE = new Color(0, 200, 0);
@@ -40,6 +40,15 @@ public class GameConstants {
     public static final int STARTUP_SPEEDUP_TICKS = 200;
     public static final double TITLEBALL_DISTANCE = 50;
     public static final double COLLISION_SPEED_CHANGE = 0.4;
+    public static final double COLLISION_GRID_MAX_CELL_SIZE = 50;
+    public static final double COLLISION_GRID_OBJECTS_PER_CELL = 2;
+    public static final double COLLISION_GRID_MARGIN = 1.0;
+    public static final int SCREEN_BOUNDS_MARGIN = 2;
+    public static final int MAX_DIRTY_REGIONS = 16;
+    public static final double MAX_DIRTY_AREA_PERCENT = 0.35;
+    public static final int ASSET_LOADER_MAX_THREADS = 4;
+    public static final int OVERLAY_SAMPLE_INTERVAL_MS = 500;
+    public static final int DEFAULT_FRAME_RATE = 60;
     public static final String[] STARTUP_TEXTS = {
             "LET'S GO!",
             "GET READY!",
@@ -48,7 +57,11 @@ public class GameConstants {
             "DODGE IT!"
     };
 
+    // Speeds and durations are given per game tick of this length, see TickRate.
     public static final int GAME_TICK_LENGTH_MS = 10;
+    public static final int GAME_MIN_TICK_RATE = 25;
+    public static final int GAME_MAX_TICK_RATE = 500;
+    public static final int GAME_LOOP_MAX_CATCH_UP_TICKS = 5;
     public static final int GAME_TICKS_UNTIL_OBJECT = 200;
     public static final int GAME_TICKS_UNTIL_LIGHTNINGROD = 1200;
     public static final int PARTY_GAME_TICKS = 500;
@@ -59,6 +72,12 @@ public class GameConstants {
 
     // Sound
     public static final int VOLUME_INIT_VALUE = 100;
+    public static final int SOUND_MAX_VOICES = 16;
+    public static final int SOUND_BUFFER_FRAMES = 480;
+    public static final int SOUND_LINE_BUFFERS = 3;
+    public static final int SOUND_MUSIC_BUFFER_FRAMES = 4096;
+    public static final int SOUND_MAX_EFFECTS_PER_TICK = 3;
+    public static final double SOUND_MAX_COALESCED_GAIN = 2.0;
 
     // Cheats
     public static final boolean INVINCIBLE_FOR_TEST = false;
@@ -81,6 +100,8 @@ public class GameConstants {
     public static final int FIREWORKSHOW_PARTICLE_DELAY = 6;
     public static final double FIREWORKSHOW_PARTICLE_RADIUS = 4.0;
     public static final double FIREWORKSHOW_PARTICLE_SPEED = 0.12;
+    public static final int FIREWORKSHOW_MAX_LIVE_ELEMENTS = 64;
+    public static final int FIREWORKSHOW_MAX_LIVE_ELEMENTS_FOR_PARTICLES = 32;
     public static final double LIGHTNINGANIMATION_SPEED = 0.7;
     public static final int LIGHTNINGANIMATION_MAX_THICKNESS = 7;
 
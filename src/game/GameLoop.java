@@ -0,0 +1,172 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import static game.GameConstants.GAME_LOOP_MAX_CATCH_UP_TICKS;
+
+import java.util.concurrent.locks.LockSupport;
+
+public class GameLoop implements Runnable {
+
+    private final long tickLengthNanos;
+    private final Runnable gameTick;
+    private final Runnable render;
+    private final LoopPolicy policy;
+    private final long frameLengthNanos;
+    private final Thread thread;
+    private volatile boolean running;
+    private long nextTickTime;
+
+    // Only written by the loop thread.
+    private volatile long overruns;
+    private volatile long droppedTicks;
+
+    public GameLoop(long tickLengthNanos, Runnable gameTick) {
+        this(tickLengthNanos, gameTick, () -> {});
+    }
+
+    public GameLoop(long tickLengthNanos, Runnable gameTick, Runnable render) {
+        this(tickLengthNanos, gameTick, render, LoopPolicy.CATCH_UP);
+    }
+
+    // The render runnable runs once after the ticks of every loop pass, so a frame is drawn
+    // after catching up instead of after every single tick.
+    public GameLoop(long tickLengthNanos, Runnable gameTick, Runnable render, LoopPolicy policy) {
+        this(tickLengthNanos, gameTick, render, policy, 0);
+    }
+
+    // With a frame length the render runnable runs at its own rate, also between the ticks.
+    public GameLoop(long tickLengthNanos, Runnable gameTick, Runnable render, LoopPolicy policy, long frameLengthNanos) {
+        this.tickLengthNanos = tickLengthNanos;
+        this.gameTick = gameTick;
+        this.render = render;
+        this.policy = policy;
+        this.frameLengthNanos = frameLengthNanos;
+        thread = new Thread(this, "Dotger-GameLoop");
+        thread.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    public LoopPolicy getPolicy() {
+        return policy;
+    }
+
+    // Loop passes that started a whole tick length or more after their tick was due, no matter
+    // what the policy did about it.
+    public long getOverruns() {
+        return overruns;
+    }
+
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    @Override
+    public void run() {
+        TickProfiler profiler = TickProfiler.getInstance();
+        nextTickTime = System.nanoTime();
+        long nextFrameTime = nextTickTime;
+        while (running) {
+            long now = System.nanoTime();
+            boolean frameDue = frameLengthNanos > 0 && now >= nextFrameTime;
+            if (now < nextTickTime && !frameDue) {
+                long wakeUpTime = frameLengthNanos > 0 ? Math.min(nextTickTime, nextFrameTime) : nextTickTime;
+                LockSupport.parkNanos(wakeUpTime - now);
+                continue;
+            }
+            if (now >= nextTickTime) {
+                runTicks(profiler, now);
+            }
+            if (frameLengthNanos > 0) {
+                now = System.nanoTime();
+                if (now < nextFrameTime) {
+                    continue;
+                }
+                // Late frames are not made up, the next one follows a frame length later.
+                nextFrameTime += frameLengthNanos;
+                if (nextFrameTime <= now) {
+                    nextFrameTime = now + frameLengthNanos;
+                }
+            }
+            try {
+                render.run();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void runTicks(TickProfiler profiler, long now) {
+        // Late by a tick length or more, because of a slow tick, frame or thread wake up.
+        boolean overrun = now - nextTickTime >= tickLengthNanos;
+        if (overrun && policy == LoopPolicy.SLOW_DOWN) {
+            // The schedule starts again from now, the lost time is not made up.
+            nextTickTime = now;
+        } else if (overrun && policy == LoopPolicy.SKIP) {
+            nextTickTime = dropTicks(profiler, now, nextTickTime);
+        }
+        int ticks = 0;
+        do {
+            runTick();
+            nextTickTime += tickLengthNanos;
+            ticks++;
+        } while (policy == LoopPolicy.CATCH_UP
+                && nextTickTime <= System.nanoTime()
+                && ticks < GAME_LOOP_MAX_CATCH_UP_TICKS);
+        now = System.nanoTime();
+        if (policy == LoopPolicy.CATCH_UP && now >= nextTickTime) {
+            // Still behind after the catch up ticks.
+            overrun = true;
+            nextTickTime = dropTicks(profiler, now, nextTickTime);
+        }
+        if (overrun) {
+            overruns++;
+            profiler.addOverruns(1);
+        }
+    }
+
+    // Drops the late ticks instead of replaying them in a burst, only the latest due tick runs.
+    // The following ticks stay on the same schedule. Returns the time of the latest due tick.
+    private long dropTicks(TickProfiler profiler, long now, long nextTickTime) {
+        long missedTicks = (now - nextTickTime) / tickLengthNanos;
+        droppedTicks += missedTicks;
+        profiler.addMissedTicks(missedTicks);
+        return nextTickTime + missedTicks * tickLengthNanos;
+    }
+
+    private void runTick() {
+        try {
+            gameTick.run();
+        } catch (RuntimeException e) {
+            // Like the former scheduled ticks on the event dispatch thread the next tick
+            // runs anyway.
+            e.printStackTrace();
+        }
+    }
+
+}
@@ -21,18 +21,41 @@ package game;
 import java.awt.*;
 import java.awt.geom.Point2D;
 
-public abstract class GameObject {
+public abstract class GameObject implements Cloneable {
 
     protected Point2D.Double position;
     protected Color color;
     protected boolean markedForRemoval = false;
+    // Where a moving object was before the last tick. Kept as numbers, so snapshots copy it
+    // without another object.
+    private double previousPosX;
+    private double previousPosY;
+    private GameObject[] snapshots;
 
     protected GameObject(double posX, double posY, Color color) {
         position = new Point2D.Double(posX, posY);
+        previousPosX = posX;
+        previousPosY = posY;
         this.color = color;
     }
 
     public abstract void draw(Graphics2D g);
+
+    // Draws the object as if it were at the given position, interpolated frames draw moving
+    // objects between their previous and their current position.
+    public void drawAt(Graphics2D g, double posX, double posY) {
+        double offsetX = posX - position.getX();
+        double offsetY = posY - position.getY();
+        g.translate(offsetX, offsetY);
+        draw(g);
+        g.translate(-offsetX, -offsetY);
+    }
+
+    // Sets the bounds to the pixels the object draws on, an empty rectangle if it draws
+    // nothing. Objects that can't tell return false, then the whole game field is repainted.
+    public boolean getScreenBounds(Rectangle bounds) {
+        return false;
+    }
     
     public void markForRemoval() {
 		markedForRemoval = true;
@@ -54,8 +77,61 @@ public abstract class GameObject {
         return position.getY();
     }
 
+    public void keepPreviousPosition() {
+        previousPosX = position.getX();
+        previousPosY = position.getY();
+    }
+
+    public double getPreviousPosX() {
+        return previousPosX;
+    }
+
+    public double getPreviousPosY() {
+        return previousPosY;
+    }
+
+    public void moveBy(double offsetX, double offsetY) {
+        position.setLocation(position.getX() + offsetX, position.getY() + offsetY);
+    }
+
     public Point2D.Double getPosition() {
         return new Point2D.Double(position.getX(), position.getY());
     }
 
+    // A copy that can be drawn on another thread while this object keeps changing. Every
+    // snapshot buffer has its own copy, which is created once and then only updated, so the
+    // snapshots of a living object don't allocate anything.
+    public GameObject getSnapshot(int buffer) {
+        if (snapshots == null) {
+            snapshots = new GameObject[RenderSnapshot.NUMBER_OF_BUFFERS];
+        }
+        GameObject snapshot = snapshots[buffer];
+        if (snapshot == null) {
+            snapshot = createSnapshot();
+            snapshots[buffer] = snapshot;
+        }
+        updateSnapshot(snapshot, buffer);
+        return snapshot;
+    }
+
+    // A copy with its own instances of everything that changes.
+    protected GameObject createSnapshot() {
+        try {
+            GameObject snapshot = (GameObject) clone();
+            snapshot.position = getPosition();
+            snapshot.snapshots = null;
+            return snapshot;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    // Copies everything that changes and is drawn. Subclasses copy their own state as well.
+    protected void updateSnapshot(GameObject snapshot, int buffer) {
+        snapshot.position.setLocation(position.getX(), position.getY());
+        snapshot.color = color;
+        snapshot.previousPosX = previousPosX;
+        snapshot.previousPosY = previousPosY;
+    }
+
 }
@@ -0,0 +1,212 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import game.animations.Animation;
+import game.gameFieldObjects.Wall;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Keeps all game objects and sorts every object once into the lists of the roles it has, so
+// the game phases only go through the objects they work with. All lists keep the order in
+// which the objects were added, only the walls always come first in the collidables.
+public class GameObjectRegistry {
+
+    private static final int MOVABLE = 1;
+    private static final int ANIMATABLE = 1 << 1;
+    private static final int ANIMATION = 1 << 2;
+    private static final int COLLIDABLE = 1 << 3;
+    private static final int PLAYER_COLLIDABLE = 1 << 4;
+    private static final int PLAYER_MOVING_COLLIDABLE = 1 << 5;
+    private static final int WALL = 1 << 6;
+    private static final int DESTRUCTIVE_COLLIDABLE = 1 << 7;
+
+    private final List<GameObject> gameObjects = new ArrayList<>(100);
+    private final List<Movable> movables = new ArrayList<>(100);
+    private final List<Animatable> animatables = new ArrayList<>(100);
+    private final List<Animation> animations = new ArrayList<>();
+    private final List<GameObject> collidables = new ArrayList<>(100);
+    private final List<GameObject> playerCollidables = new ArrayList<>();
+    private final List<GameObject> playerMovingCollidables = new ArrayList<>();
+    private final List<Wall> walls = new ArrayList<>();
+    private final List<GameObject> destructiveCollidables = new ArrayList<>();
+
+    public void add(GameObject object) {
+        gameObjects.add(object);
+        int roles = getRoles(object);
+        if ((roles & MOVABLE) != 0) {
+            movables.add((Movable) object);
+        }
+        if ((roles & ANIMATABLE) != 0) {
+            animatables.add((Animatable) object);
+        }
+        if ((roles & ANIMATION) != 0) {
+            animations.add((Animation) object);
+        }
+        if ((roles & WALL) != 0) {
+            // The walls never react to collisions, with them in front the collision check
+            // skips them by their index.
+            collidables.add(walls.size(), object);
+            walls.add((Wall) object);
+        } else if ((roles & COLLIDABLE) != 0) {
+            collidables.add(object);
+        }
+        if ((roles & PLAYER_COLLIDABLE) != 0) {
+            playerCollidables.add(object);
+        }
+        if ((roles & PLAYER_MOVING_COLLIDABLE) != 0) {
+            playerMovingCollidables.add(object);
+        }
+        if ((roles & DESTRUCTIVE_COLLIDABLE) != 0) {
+            destructiveCollidables.add(object);
+        }
+    }
+
+    private static int getRoles(GameObject object) {
+        int roles = 0;
+        if (object instanceof Movable) {
+            roles |= MOVABLE;
+        }
+        if (object instanceof Animatable) {
+            roles |= ANIMATABLE;
+        }
+        if (object instanceof Animation) {
+            roles |= ANIMATION;
+        }
+        if (object instanceof Collidable) {
+            roles |= COLLIDABLE;
+        }
+        if (object instanceof PlayerCollidable) {
+            roles |= PLAYER_COLLIDABLE;
+        }
+        if (object instanceof PlayerMovingCollidable) {
+            roles |= PLAYER_MOVING_COLLIDABLE;
+        }
+        if (object instanceof Wall) {
+            roles |= WALL;
+        }
+        if (object instanceof DestructiveCollidable) {
+            roles |= DESTRUCTIVE_COLLIDABLE;
+        }
+        return roles;
+    }
+
+    public void addAll(GameObject[] objects) {
+        for (GameObject object : objects) {
+            add(object);
+        }
+    }
+
+    public void clear() {
+        gameObjects.clear();
+        movables.clear();
+        animatables.clear();
+        animations.clear();
+        collidables.clear();
+        playerCollidables.clear();
+        playerMovingCollidables.clear();
+        walls.clear();
+        destructiveCollidables.clear();
+    }
+
+    // Only called in ticks where objects were marked. Only the lists holding one of the marked
+    // objects are gone through, each of them once for all marked objects.
+    public void removeMarked() {
+        int removedRoles = 0;
+        for (int i = 0; i < gameObjects.size(); i++) {
+            GameObject object = gameObjects.get(i);
+            if (object.isMarkedForRemoval()) {
+                removedRoles |= getRoles(object);
+            }
+        }
+        gameObjects.removeIf(GameObject::isMarkedForRemoval);
+        if ((removedRoles & MOVABLE) != 0) {
+            movables.removeIf(GameObjectRegistry::isMarkedForRemoval);
+        }
+        if ((removedRoles & ANIMATABLE) != 0) {
+            animatables.removeIf(GameObjectRegistry::isMarkedForRemoval);
+        }
+        if ((removedRoles & ANIMATION) != 0) {
+            animations.removeIf(GameObject::isMarkedForRemoval);
+        }
+        if ((removedRoles & COLLIDABLE) != 0) {
+            collidables.removeIf(GameObject::isMarkedForRemoval);
+        }
+        if ((removedRoles & PLAYER_COLLIDABLE) != 0) {
+            playerCollidables.removeIf(GameObject::isMarkedForRemoval);
+        }
+        if ((removedRoles & PLAYER_MOVING_COLLIDABLE) != 0) {
+            playerMovingCollidables.removeIf(GameObject::isMarkedForRemoval);
+        }
+        if ((removedRoles & WALL) != 0) {
+            walls.removeIf(GameObject::isMarkedForRemoval);
+        }
+        if ((removedRoles & DESTRUCTIVE_COLLIDABLE) != 0) {
+            destructiveCollidables.removeIf(GameObject::isMarkedForRemoval);
+        }
+    }
+
+    private static boolean isMarkedForRemoval(Object object) {
+        return ((GameObject) object).isMarkedForRemoval();
+    }
+
+    public int size() {
+        return gameObjects.size();
+    }
+
+    public List<GameObject> getGameObjects() {
+        return gameObjects;
+    }
+
+    public List<Movable> getMovables() {
+        return movables;
+    }
+
+    public List<Animatable> getAnimatables() {
+        return animatables;
+    }
+
+    public List<Animation> getAnimations() {
+        return animations;
+    }
+
+    public List<GameObject> getCollidables() {
+        return collidables;
+    }
+
+    public List<GameObject> getPlayerCollidables() {
+        return playerCollidables;
+    }
+
+    public List<GameObject> getPlayerMovingCollidables() {
+        return playerMovingCollidables;
+    }
+
+    // The walls are also the first collidables.
+    public List<Wall> getWalls() {
+        return walls;
+    }
+
+    // In the same order as in the collidables.
+    public List<GameObject> getDestructiveCollidables() {
+        return destructiveCollidables;
+    }
+
+}
@@ -0,0 +1,824 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import static game.GameConstants.*;
+import static game.Helpers.*;
+import static game.GeometryLogic.*;
+
+import game.TickProfiler.Phase;
+import game.animations.*;
+import game.events.*;
+import game.gameFieldObjects.*;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
+
+// The game rules without any Swing component, so the game can also run without a display.
+public class GameSimulation {
+
+	private static final TickProfiler profiler = TickProfiler.getInstance();
+	private final Dimension size;
+	private PlayerBall player;
+	private PlayerBall futurePlayer;
+	private final PlayerMovement movement;
+	private final GameEventListener eventListener;
+	private GameState gameState;
+	private final Rectangle2D.Double spawnBounds;
+	private final SpatialGrid collisionGrid;
+	// Grid indices of the destructive collidables, in the order of the collidables.
+	private int[] destructiveIndices = new int[8];
+	private final TickRate tickRate;
+	private long gameTickCounter;
+	// All ticks since the simulation was created, other than gameTickCounter never reset.
+	private long ticks;
+	private int lives;
+	private int points;
+	private int partyGameTicks;
+	private int invincibleGameTicks;
+	private int speedChangeGameTicks;
+	private double speedChangeFactor;
+	private boolean spawning = true;
+	
+	private final GameObjectRegistry gameObjects = new GameObjectRegistry();
+	private final List<GameObject> playerCollideObjects = new ArrayList<>();
+	private final AnimationFactory animationFactory = new AnimationFactory();
+	private final List<Animation> removedAnimations = new ArrayList<>();
+	private long numberOfRemovedObjects;
+	private volatile boolean newGameRequested;
+	
+	private final Spawnable[] gameObjectOccurrence = {
+			new SuperBall(),
+			new LiveBall(),
+			new FixedBall(),
+			new BlastBall(),
+			new PartyBall(),
+			new FixedBlock(),
+			new GodModeBall(),
+			new PlayerMovingBlock(),
+			new SlowMotionBall()
+	};
+	private int specialObjectIndex;
+	
+	public GameSimulation(int width, int height, GameEventListener eventListener) {
+		size = new Dimension(width, height);
+		player = createPlayer();
+		futurePlayer = createPlayer();
+		movement = new PlayerMovement();
+		this.eventListener = eventListener;
+		spawnBounds = new Rectangle2D.Double(
+				CORNER_SIZE / 2.0,
+				CORNER_SIZE / 2.0,
+				size.width - CORNER_SIZE,
+				size.height - CORNER_SIZE
+		);
+		collisionGrid = new SpatialGrid(size.width, size.height, COLLISION_GRID_MAX_CELL_SIZE);
+		tickRate = TickRate.get();
+
+		gameTickCounter = 0;
+		lives = 0;
+		points = 0;
+		gameState = GameState.NOT_STARTED;
+		partyGameTicks = 0;
+		speedChangeGameTicks = 0;
+		speedChangeFactor = 1;
+		specialObjectIndex = 0;
+		invincibleGameTicks = 0;
+		if (FOR_ANNIKA) {
+			gameObjectOccurrence[0] = new AnnikaBlock();
+		}
+
+		addWalls();
+		showStartupText("DOTGER", size.height / 2.0 - TITLEBALL_DISTANCE);
+		String randomText = STARTUP_TEXTS[RANDOM.nextInt(0, STARTUP_TEXTS.length)];
+		showStartupText(randomText, size.height / 2.0 + TITLEBALL_DISTANCE);
+	}
+	
+	public void step() {
+		GameTickEvent tickEvent = GameTickEvent.beginTick();
+		ticks++;
+		keepPreviousPositions();
+		if (newGameRequested) {
+			newGameRequested = false;
+			startNewGame();
+		}
+		gameTickCounter++;
+		int previewTicks = tickRate.toTicks(STARTUP_PREVIEW_DELAY);
+		int speedupTicks = tickRate.toTicks(STARTUP_SPEEDUP_TICKS);
+		if (gameState == GameState.NOT_STARTED && gameTickCounter < previewTicks + speedupTicks) {
+			if (gameTickCounter < previewTicks) {
+				speedChangeFactor = 0;
+			} else {
+				speedChangeFactor = (double) (gameTickCounter - previewTicks) / speedupTicks;
+			}
+		}
+
+		long phaseStart = profiler.start();
+		if (gameState == GameState.RUNNING) {
+			if (spawning) {
+				addNewGameObjectOnLoopCount();
+				addNewLightningRodOnLoopCount();
+			}
+			phaseStart = profiler.record(Phase.SPAWN, phaseStart);
+			movePlayer();
+			phaseStart = profiler.record(Phase.MOVE_PLAYER, phaseStart);
+			checkForPlayerCollision();
+			phaseStart = profiler.record(Phase.PLAYER_COLLISION, phaseStart);
+		}
+
+		moveAndAnimateGameObjects();
+		phaseStart = profiler.record(Phase.MOVE_AND_ANIMATE, phaseStart);
+		checkGameObjectCollision();
+		phaseStart = profiler.record(Phase.OBJECT_COLLISION, phaseStart);
+
+		removeObjectsIfMarked();
+		profiler.record(Phase.REMOVE_MARKED, phaseStart);
+
+		if (gameState == GameState.RUNNING) {
+			if (GameBall.isParty) {
+				partyGameTicks++;
+				if (partyGameTicks > tickRate.toTicks(PARTY_GAME_TICKS)) {
+					GameBall.isParty = false;
+				}
+			}
+			if (player.isInvincible()) {
+				invincibleGameTicks++;
+				if (invincibleGameTicks > tickRate.toTicks(INVINCIBLE_GAME_TICKS)) {
+					player.setInvincible(false);
+				}
+			}
+			if (speedChangeFactor != 1) {
+				speedChangeGameTicks++;
+				if (speedChangeGameTicks > tickRate.toTicks(SPEED_CHANGE_GAME_TICKS)) {
+					speedChangeFactor = 1;
+					eventListener.playSound(GameSounds.SLOW_MOTION_END);
+				}
+			}
+		}
+		if (tickEvent != null) {
+			tickEvent.commit(gameObjects.size(), speedChangeFactor);
+		}
+	}
+
+	// The renderer can draw the moving objects between their positions before and after the tick.
+	private void keepPreviousPositions() {
+		player.keepPreviousPosition();
+		List<Movable> movables = gameObjects.getMovables();
+		for (int i = 0; i < movables.size(); i++) {
+			((GameObject) movables.get(i)).keepPreviousPosition();
+		}
+	}
+	
+	private void addWalls() {
+		int left = 0;
+		int leftWithCorner = CORNER_SIZE;
+		int right = size.width - 1;
+		int rightWithCorner = size.width - 1 - CORNER_SIZE;
+		int top = 0;
+		int topWithCorner = CORNER_SIZE;
+		int bottom = size.height - 1;
+		int bottomWithCorner = size.height - 1 - CORNER_SIZE;
+		int xLengthWithCorners = size.width - CORNER_SIZE * 2;
+		int yLengthWithCorners = size.height - CORNER_SIZE * 2;
+		double cornerDiagonal = Math.sqrt(2) * CORNER_SIZE;
+		gameObjects.add(new Wall(leftWithCorner, top, xLengthWithCorners, CircleAngle.DEGREE_0, Color.darkGray));
+		gameObjects.add(new Wall(rightWithCorner, top, cornerDiagonal, CircleAngle.DEGREE_45, Color.darkGray));
+		gameObjects.add(new Wall(right, topWithCorner, yLengthWithCorners, CircleAngle.DEGREE_90, Color.darkGray));
+		gameObjects.add(new Wall(right, bottomWithCorner, cornerDiagonal, CircleAngle.DEGREE_135, Color.darkGray));
+		gameObjects.add(new Wall(rightWithCorner, bottom, xLengthWithCorners, CircleAngle.DEGREE_180, Color.darkGray));
+		gameObjects.add(new Wall(leftWithCorner, bottom, cornerDiagonal, CircleAngle.DEGREE_225, Color.darkGray));
+		gameObjects.add(new Wall(left, bottomWithCorner, yLengthWithCorners, CircleAngle.DEGREE_270, Color.darkGray));
+		gameObjects.add(new Wall(left, topWithCorner, cornerDiagonal, CircleAngle.DEGREE_315, Color.darkGray));
+	}
+	
+	private void showStartupText(String text, double positionY) {
+		assert ((text.length() + 1) * TITLEBALL_DISTANCE <= size.width) : "Startup text is too long";
+		assert (positionY >= TITLEBALL_DISTANCE / 2.0) : "Y position is invalid";
+		assert (positionY <= size.height - TITLEBALL_DISTANCE / 2.0) : "Y position is invalid";
+		
+		double leftMostBallX = size.width / 2.0 - (text.length() - 1) * TITLEBALL_DISTANCE / 2.0;
+		char[] textChars = text.toCharArray();
+		for (int i = 0; i < textChars.length; i++) {
+			if (textChars[i] == ' ') {
+				continue;
+			}
+			double positionX = leftMostBallX + i * TITLEBALL_DISTANCE;
+			gameObjects.add(new TitleBall(positionX, positionY, textChars[i]));
+		}
+	}
+
+	// Can be called from any thread, the new game starts with the next tick.
+	public void setupNewGame() {
+		movement.resetAll();
+		newGameRequested = true;
+	}
+
+	private void startNewGame() {
+		gameTickCounter = 1;
+		lives = 0;
+		points = 0;
+		gameState = GameState.RUNNING;
+		clearGameObjects();
+		GameBall.isParty = false;
+		partyGameTicks = 0;
+		speedChangeGameTicks = 0;
+		speedChangeFactor = 1;
+		specialObjectIndex = 0;
+		player = createPlayer();
+		futurePlayer = createPlayer();
+		if (INVINCIBLE_FOR_TEST) {
+			player.setInvincible(true);
+			invincibleGameTicks = Integer.MIN_VALUE;
+		} else {
+			player.setInvincible(false);
+			invincibleGameTicks = 0;
+		}
+		addWalls();
+		eventListener.playSound(GameSounds.START_SOUND);
+		eventListener.startGameMusic();
+	}
+	
+	private void clearGameObjects() {
+		List<Animation> animations = gameObjects.getAnimations();
+		for (int i = 0; i < animations.size(); i++) {
+			animationFactory.release(animations.get(i));
+		}
+		gameObjects.clear();
+	}
+	
+	private PlayerBall createPlayer() {
+		return new PlayerBall(size.width / 2.0, size.height / 2.0, 5, PLAYER_SPEED);
+	}
+	
+	public void setupStressTest(int numberOfBalls) {
+		gameTickCounter = tickRate.toTicks(STARTUP_PREVIEW_DELAY) + tickRate.toTicks(STARTUP_SPEEDUP_TICKS);
+		gameState = GameState.NOT_STARTED;
+		clearGameObjects();
+		GameBall.isParty = false;
+		speedChangeFactor = 1;
+		addWalls();
+		int columns = (int) Math.ceil(Math.sqrt(numberOfBalls * spawnBounds.getWidth() / spawnBounds.getHeight()));
+		int rows = (int) Math.ceil((double) numberOfBalls / columns);
+		double xDistance = spawnBounds.getWidth() / columns;
+		double yDistance = spawnBounds.getHeight() / rows;
+		double radius = Math.min(Math.min(xDistance, yDistance) / 4.0, GAMEBALL_MIN_RADIUS);
+		for (int i = 0; i < numberOfBalls; i++) {
+			double posX = spawnBounds.getX() + (i % columns + 0.5) * xDistance;
+			double posY = spawnBounds.getY() + (i / columns + 0.5) * yDistance;
+			gameObjects.add(new GameBall(posX, posY, radius, CircleAngle.randomAngle(), GAMEBALL_MIN_SPEED));
+		}
+	}
+
+	// Without spawning a running game keeps the same objects, which is used to check the
+	// steady state of the game.
+	public void setSpawning(boolean spawning) {
+		this.spawning = spawning;
+	}
+
+	public int getNumberOfGameObjects() {
+		return gameObjects.size();
+	}
+
+	public long getNumberOfRemovedObjects() {
+		return numberOfRemovedObjects;
+	}
+
+	public double getCollisionGridCellSize() {
+		return collisionGrid.getCellSize();
+	}
+
+	public AnimationFactory getAnimationFactory() {
+		return animationFactory;
+	}
+	
+	private void addNewGameObjectOnLoopCount() {
+		int ticksUntilObject = tickRate.toTicks(GAME_TICKS_UNTIL_OBJECT);
+		if (gameTickCounter % ticksUntilObject == 0) {
+			if (gameTickCounter != 0 && gameTickCounter % (ticksUntilObject * OBJECTS_UNTIL_SPECIAL_OBJECT) == 0) {
+				addNewGameObject(gameObjectOccurrence[specialObjectIndex]);
+				switchSpecialObject();
+			} else {
+				addNewGameObject(new GameBall());
+			}
+			points++;
+		}
+	}
+
+	private void addNewLightningRodOnLoopCount() {
+		if (gameTickCounter % tickRate.toTicks(GAME_TICKS_UNTIL_LIGHTNINGROD) != 0 || gameTickCounter == 0) {
+			return;
+		}
+		Point2D.Double startPoint = getRandomPointOnSide();
+		Point2D.Double endPoint;
+		do {
+			endPoint = getRandomPointOnSide();
+		} while (endPoint.getX() == startPoint.getX() || endPoint.getY() == startPoint.getY());
+		double length = startPoint.distance(endPoint);
+		CircleAngle angle = angleToPoint(startPoint.getX(), startPoint.getY(), endPoint.getX(), endPoint.getY());
+		gameObjects.add(new PreLightningRod(startPoint.getX(), startPoint.getY(), length, angle));
+	}
+
+	private Point2D.Double getRandomPointOnSide() {
+		double posX = 0;
+		double posY = 0;
+		int randomSide = RANDOM.nextInt(4);
+		// The corner walls are included in the top and bottom wall calculation to shorten the code.
+		switch (randomSide) {
+			case 0:
+				// Top wall.
+				posX = RANDOM.nextDouble(size.width);
+				posY = getTopSideYPosition(posX);
+				break;
+			case 1:
+				// Right wall.
+				posX = size.width;
+				posY = RANDOM.nextDouble(CORNER_SIZE, size.height - CORNER_SIZE);
+				break;
+			case 2:
+				// Bottom wall.
+				posX = RANDOM.nextDouble(size.width);
+				posY = size.height - getTopSideYPosition(posX);
+				break;
+			case 3:
+				// Left wall.
+				posX = 0;
+				posY = RANDOM.nextDouble(CORNER_SIZE, size.height - CORNER_SIZE);
+				break;
+		}
+		return new Point2D.Double(posX, posY);
+	}
+
+	private double getTopSideYPosition(double posX) {
+		return Math.max(Math.max(0, CORNER_SIZE - (size.width - posX)), Math.max(0, CORNER_SIZE - posX));
+	}
+	
+	// The speeds are given per tick of GAME_TICK_LENGTH_MS, shorter ticks move the objects less.
+	private double getMotionFactor() {
+		return speedChangeFactor * tickRate.getTickScale();
+	}
+	
+	private void moveAndAnimateGameObjects() {
+		double motionFactor = getMotionFactor();
+		player.animate(motionFactor);
+		List<Movable> movables = gameObjects.getMovables();
+		for (int i = 0; i < movables.size(); i++) {
+			movables.get(i).move(motionFactor);
+		}
+		bounceOffPassedWalls();
+		List<Animatable> animatables = gameObjects.getAnimatables();
+		for (int i = 0; i < animatables.size(); i++) {
+			Animatable animatableObject = animatables.get(i);
+			if (animatableObject instanceof Animation animation && animation.isFinished()) {
+				animation.markForRemoval();
+			} else {
+				animatableObject.animate(motionFactor);
+			}
+		}
+		List<Animation> animations = gameObjects.getAnimations();
+		for (int i = 0; i < animations.size(); i++) {
+			animations.get(i).playPendingSounds(eventListener);
+		}
+	}
+
+	// Below the original tick rate an object can move further in one tick than its radius and
+	// get behind a wall without ever touching it. It is mirrored back into the game field and
+	// bounces off the wall as if it had hit it.
+	private void bounceOffPassedWalls() {
+		List<Wall> walls = gameObjects.getWalls();
+		List<Movable> movables = gameObjects.getMovables();
+		for (int i = 0; i < movables.size(); i++) {
+			GameObject object = (GameObject) movables.get(i);
+			ObjectCollidable objectReaction = object instanceof ObjectCollidable reactionObject ? reactionObject : null;
+			PlayerMovingCollidable playerMovingReaction = object instanceof PlayerMovingCollidable reactionObject ? reactionObject : null;
+			if (objectReaction == null && playerMovingReaction == null) {
+				continue;
+			}
+			for (int j = 0; j < walls.size(); j++) {
+				Wall wall = walls.get(j);
+				double distance = wall.getDistanceInside(object.getPosX(), object.getPosY());
+				if (distance >= 0) {
+					continue;
+				}
+				wall.pushInside(object, -2 * distance);
+				if (objectReaction != null && objectReaction.isOnCollisionCourse(wall)) {
+					objectReaction.reactToCollision(wall);
+				} else if (playerMovingReaction != null && playerMovingReaction.isOnCollisionCourse(wall)) {
+					playerMovingReaction.reactToCollision(wall);
+				}
+			}
+		}
+	}
+
+	// The same for the player, which stops at the wall instead.
+	private void keepPlayerInsideWalls() {
+		List<Wall> walls = gameObjects.getWalls();
+		for (int i = 0; i < walls.size(); i++) {
+			Wall wall = walls.get(i);
+			double distance = wall.getDistanceInside(player.getPosX(), player.getPosY());
+			if (distance < 0) {
+				wall.pushInside(player, player.getRadius() - distance);
+			}
+		}
+	}
+
+	private void movePlayer() {
+		CircleAngle moveAngle = movement.getMoveAngle();
+		double moveSpeed = player.getSpeed();
+		double motionFactor = getMotionFactor();
+		boolean normalCollisionHappened = false;
+		player.updateFuturePlayer(futurePlayer, moveAngle, motionFactor);
+		// Every object of PlayerCollidable that collides with the player should modify the
+		// moveAngle and / or moveSpeed once, even if it collides only after a modification
+		// happened. If one stops the player by setting moveAngle to null moveAngle will
+		// stay null.
+		playerCollideObjects.clear();
+		List<GameObject> playerCollidables = gameObjects.getPlayerCollidables();
+		for (int i = 0; i < playerCollidables.size(); i++) {
+			GameObject object = playerCollidables.get(i);
+			if (!(object instanceof AnnikaBlock)) {
+				playerCollideObjects.add(object);
+			}
+		}
+		
+		GameObject lastCollisionObject = null;
+		boolean loopedWithCollision;
+		do {
+			loopedWithCollision = false;
+			for (int i = 0; i < playerCollideObjects.size(); i++) {
+				GameObject object = playerCollideObjects.get(i);
+				if (((PlayerCollidable) object).isCollidingWith(player)) {
+					moveAngle = ((PlayerCollidable) object).getPossibleMoveAngle(player, moveAngle);
+				} else if (((PlayerCollidable) object).isCollidingWith(futurePlayer)) {
+					moveSpeed = ((PlayerCollidable) object).getPossibleMoveDistance(player, moveAngle);
+					if (moveSpeed <= 0.1) {
+						moveAngle = ((PlayerCollidable) object).getPossibleMoveAngle(player, moveAngle);
+						moveSpeed = player.getSpeed();
+					}
+				} else {
+					continue;
+				}
+				lastCollisionObject = object;
+				loopedWithCollision = true;
+				player.updateFuturePlayer(futurePlayer, moveAngle, motionFactor);
+				if (!(object instanceof PlayerMovingCollidable)) {
+					normalCollisionHappened = true;
+				}
+			}
+			if (loopedWithCollision) {
+				playerCollideObjects.remove(lastCollisionObject);
+			}
+		} while (loopedWithCollision);
+		
+		if (moveAngle != null) {
+			player.moveInDirection(moveAngle, moveSpeed, motionFactor);
+		}
+		
+		CircleAngle pushAngle = null;
+		double pushSpeed = 0;
+		GameObject pushingObject = null;
+		int playerMovingCollisionCounter = 0;
+		List<GameObject> playerMovingCollidables = gameObjects.getPlayerMovingCollidables();
+		for (int i = 0; i < playerMovingCollidables.size(); i++) {
+			GameObject object = playerMovingCollidables.get(i);
+			PlayerMovingCollidable playerMovingObject = (PlayerMovingCollidable) object;
+			if (playerMovingObject.isCollidingWith(player)) {
+				pushAngle = playerMovingObject.getPlayerPushDirection(player);
+				pushSpeed = playerMovingObject.getPlayerPushSpeed(player);
+				pushingObject = object;
+				playerMovingCollisionCounter++;
+			}
+		}
+		
+		if (pushAngle != null) {
+			player.moveInDirection(pushAngle, pushSpeed, motionFactor);
+		}
+		keepPlayerInsideWalls();
+		
+		if (playerMovingCollisionCounter > 1 || (playerMovingCollisionCounter > 0 && normalCollisionHappened)) {
+			if (player.isInvincible()) {
+				pushingObject.markForRemoval();
+			} else if (lives > 0) {
+				pushingObject.markForRemoval();
+				hurtPlayer();
+			} else {
+				killPlayer();
+			}
+		}
+	}
+	
+	private void checkGameObjectCollision() {
+		List<GameObject> collidables = gameObjects.getCollidables();
+		List<GameObject> destructiveCollidables = gameObjects.getDestructiveCollidables();
+		if (destructiveIndices.length < destructiveCollidables.size()) {
+			destructiveIndices = new int[destructiveCollidables.size() * 2];
+		}
+		collisionGrid.adaptCellSize(collidables);
+		collisionGrid.clear(collidables.size());
+		int destructiveCount = 0;
+		for (int i = 0; i < collidables.size(); i++) {
+			GameObject object = collidables.get(i);
+			collisionGrid.insert(i, (Collidable) object);
+			// Both lists have the same order, so the destructive ones are found in one pass.
+			if (destructiveCount < destructiveCollidables.size()
+					&& object == destructiveCollidables.get(destructiveCount)) {
+				destructiveIndices[destructiveCount++] = i;
+			}
+		}
+		destroyObjectsTouchingDestructives(collidables, destructiveCount);
+		// Only collidable objects sharing a grid cell can collide. The candidates come in the
+		// order of gameObjects, so the reactions happen in the same order as with a full scan.
+		// The walls come first and never react.
+		for (int i = gameObjects.getWalls().size(); i < collidables.size(); i++) {
+			GameObject object = collidables.get(i);
+			if (object.isMarkedForRemoval()) {
+				continue;
+			}
+			ObjectCollidable objectReaction = object instanceof ObjectCollidable reactionObject ? reactionObject : null;
+			PlayerMovingCollidable playerMovingReaction = object instanceof PlayerMovingCollidable reactionObject ? reactionObject : null;
+			if (objectReaction == null && playerMovingReaction == null) {
+				continue;
+			}
+			int collisionCounter = 0;
+			int squeezeCollisionCounter = 0;
+			int candidateCount = collisionGrid.findCandidates(i);
+			for (int candidate = 0; candidate < candidateCount; candidate++) {
+				GameObject otherObject = collidables.get(collisionGrid.getCandidate(candidate));
+				if (objectReaction != null) {
+					Collidable collidableOtherObject = (Collidable) otherObject;
+					if (objectReaction.isCollidingWith(collidableOtherObject)
+							&& objectReaction.isOnCollisionCourse(collidableOtherObject)) {
+						objectReaction.reactToCollision(collidableOtherObject);
+						CollisionResolvedEvent.commit(object, otherObject, CollisionResolvedEvent.REFLECTED);
+						collisionCounter++;
+						if (otherObject instanceof PlayerCollidable) {
+							squeezeCollisionCounter++;
+						}
+					}
+				}
+				if (playerMovingReaction != null
+						&& otherObject instanceof PlayerCollidable collidableOtherObject) {
+					if (playerMovingReaction.isCollidingWith(collidableOtherObject)
+							&& playerMovingReaction.isOnCollisionCourse(collidableOtherObject)) {
+						playerMovingReaction.reactToCollision(collidableOtherObject);
+						CollisionResolvedEvent.commit(object, otherObject, CollisionResolvedEvent.REFLECTED);
+						collisionCounter++;
+						squeezeCollisionCounter++;
+					}
+				}
+			}
+			if (collisionCounter > 2 || squeezeCollisionCounter > 1) {
+				object.markForRemoval();
+			}
+		}
+	}
+
+	// Every object touching a shock wave or a lightning is destroyed before the other objects
+	// react to it. The walls are never destroyed.
+	private void destroyObjectsTouchingDestructives(List<GameObject> collidables, int destructiveCount) {
+		int wallCount = gameObjects.getWalls().size();
+		for (int d = 0; d < destructiveCount; d++) {
+			int destructiveIndex = destructiveIndices[d];
+			GameObject destructObject = collidables.get(destructiveIndex);
+			int candidateCount = collisionGrid.findCandidates(destructiveIndex);
+			for (int candidate = 0; candidate < candidateCount; candidate++) {
+				int otherIndex = collisionGrid.getCandidate(candidate);
+				GameObject object = collidables.get(otherIndex);
+				if (otherIndex < wallCount || object.isMarkedForRemoval()) {
+					continue;
+				}
+				if (((Collidable) object).isCollidingWith((Collidable) destructObject)) {
+					object.markForRemoval();
+					CollisionResolvedEvent.commit(object, destructObject, CollisionResolvedEvent.DESTROYED);
+				}
+			}
+		}
+	}
+	
+	private void checkForPlayerCollision() {
+		List<GameObject> collidables = gameObjects.getCollidables();
+		for (int i = 0; i < collidables.size(); i++) {
+			GameObject object = collidables.get(i);
+			if (object instanceof PlayerCollidable || object instanceof ShockWave) {
+				continue;
+			}
+			if (!player.isCollidingWith((Collidable) object)) {
+				continue;
+			}
+			CollisionResolvedEvent.commit(player, object, CollisionResolvedEvent.PLAYER_HIT);
+			if (object instanceof LiveBall) {
+				object.markForRemoval();
+				lives++;
+				eventListener.playSound(GameSounds.LIFE_SOUND);
+			} else if (object instanceof BlastBall) {
+				object.markForRemoval();
+			} else if (object instanceof PartyBall) {
+				object.markForRemoval();
+				partyGameTicks = 0;
+				GameBall.isParty = true;
+				eventListener.playSound(GameSounds.PARTY_SOUND);
+			} else if (object instanceof GodModeBall) {
+				object.markForRemoval();
+				if (!INVINCIBLE_FOR_TEST) {
+					invincibleGameTicks = 0;
+					player.setInvincible(true);
+				}
+				eventListener.playSound(GameSounds.GODMODE_SOUND);
+			} else if (object instanceof SlowMotionBall) {
+				object.markForRemoval();
+				speedChangeGameTicks = 0;
+				if (speedChangeFactor == 1) {
+					eventListener.playSound(GameSounds.SLOW_MOTION_START);
+				}
+				speedChangeFactor = SLOW_MOTION_FACTOR;
+			} else if (player.isInvincible()) {
+				object.markForRemoval();
+			} else {
+				if (lives > 0) {
+					object.markForRemoval();
+					hurtPlayer();
+				} else {
+					killPlayer();
+					break;
+				}
+			}
+		}
+	}
+	
+	private void removeObjectsIfMarked() {
+		List<GameObject> objects = gameObjects.getGameObjects();
+		int numberOfObjects = objects.size();
+		int removedObjects = 0;
+		for (int i = 0; i < numberOfObjects; i++) {
+			GameObject object = objects.get(i);
+			if (object.isMarkedForRemoval()) {
+				removedObjects++;
+				if (object instanceof Destructible destructible) {
+					gameObjects.addAll(destructible.getDestroyAnimations(animationFactory));
+				}
+				if (object instanceof Animation animation) {
+					removedAnimations.add(animation);
+				}
+			}
+		}
+		if (removedObjects > 0) {
+			gameObjects.removeMarked();
+			numberOfRemovedObjects += removedObjects;
+		}
+		// The animations go back to their pools only after they are removed, so none of the
+		// destroy animations created above can be one that is still in the game.
+		for (int i = 0; i < removedAnimations.size(); i++) {
+			animationFactory.release(removedAnimations.get(i));
+		}
+		removedAnimations.clear();
+	}
+
+	private void hurtPlayer() {
+		player.hurtPlayer();
+		lives--;
+		eventListener.playSound(GameSounds.LIFE_LOST_SOUND);
+	}
+
+	private void killPlayer() {
+		gameState = GameState.GAME_OVER;
+		gameObjects.add(animationFactory.createDestroyAnimation(
+				player.getPosX(),
+				player.getPosY(),
+				140,
+				1.5,
+				player.getColor(),
+				0
+		));
+		speedChangeFactor = 1;
+		GameBall.isParty = false;
+		gameObjects.add(new FireworkShow(points, size));
+		eventListener.playSound(GameSounds.END_SOUND);
+		eventListener.stopGameMusic();
+		eventListener.gameOver();
+	}
+	
+	private void addNewGameObject(Spawnable objectToSpawn) {
+		ObjectSpawnedEvent spawnEvent = ObjectSpawnedEvent.beginSpawn();
+		GameFieldObject newObject;
+		boolean canPlace;
+		int tryCounter = 0;
+		do {
+			Point2D.Double pos = objectToSpawn.getRandomSpawnPosition(spawnBounds);
+			CircleAngle direction = CircleAngle.randomAngle();
+			newObject = objectToSpawn.getInstance(pos.getX(), pos.getY(), direction);
+			canPlace = canBePlaced(newObject);
+			tryCounter++;
+			if (tryCounter > 2000) {
+				if (spawnEvent != null) {
+					spawnEvent.commit(newObject.getClass(), tryCounter, false);
+				}
+				return;
+			}
+		} while (!canPlace);
+		if (spawnEvent != null) {
+			spawnEvent.commit(newObject.getClass(), tryCounter, true);
+		}
+		gameObjects.add(newObject);
+		gameObjects.add(animationFactory.createSpawnAnimation(
+				newObject.getPosX(),
+				newObject.getPosY(),
+				newObject.getSize(),
+				SPAWNANIMATION_SPEED,
+				GameColors.SPAWN_ANIMATION,
+				0
+		));
+		eventListener.playSound(GameSounds.SPAWN_SOUND);
+	}
+
+	private boolean canBePlaced(GameObject newObject) {
+		if (!(newObject instanceof Collidable newCollideObject)) {
+			return true;
+		}
+		for (GameObject object : gameObjects.getCollidables()) {
+			if (((Collidable) object).isCollidingWith(newCollideObject)) {
+				return false;
+			}
+			if (object instanceof PlayerCollidable) {
+				double distance = newObject.getPosition().distance(object.getPosition());
+				if (distance < FIXED_OBJECT_MIN_DISTANCE) {
+					return false;
+				}
+			}
+		}
+		double spawnDistance = newCollideObject.getPosition().distance(player.getPosition());
+		return spawnDistance > MIN_SPAWN_DISTANCE;
+	}
+
+	private void switchSpecialObject() {
+		specialObjectIndex = (specialObjectIndex + 1) % gameObjectOccurrence.length;
+	}
+	
+	public void setPlayerLeftMovement(boolean isMoving) {
+		movement.setLeftValue(isMoving);
+	}
+	
+	public void setPlayerTopMovement(boolean isMoving) {
+		movement.setTopValue(isMoving);
+	}
+	
+	public void setPlayerRightMovement(boolean isMoving) {
+		movement.setRightValue(isMoving);
+	}
+	
+	public void setPlayerBottomMovement(boolean isMoving) {
+		movement.setBottomValue(isMoving);
+	}
+	
+	public void setPlayerAMovement(boolean isMoving) {
+		movement.setAValue(isMoving);
+	}
+	
+	public void setPlayerWMovement(boolean isMoving) {
+		movement.setWValue(isMoving);
+	}
+	
+	public void setPlayerDMovement(boolean isMoving) {
+		movement.setDValue(isMoving);
+	}
+	
+	public void setPlayerSMovement(boolean isMoving) {
+		movement.setSValue(isMoving);
+	}
+	
+	// Copies the current state of the game into the snapshot, for the painting.
+	public void updateSnapshot(RenderSnapshot snapshot) {
+		snapshot.update(gameObjects.getGameObjects(), player, gameState, points, lives, ticks);
+	}
+
+	public GameState getGameState() {
+		return gameState;
+	}
+
+	public int getPoints() {
+		return points;
+	}
+	
+	public int getLives() {
+		return lives;
+	}
+	
+}
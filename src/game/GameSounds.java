@@ -21,6 +21,9 @@ package game;
 import static game.GameConstants.*;
 
 import java.io.File;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import javax.sound.sampled.*;
 
@@ -44,175 +47,243 @@ public class GameSounds {
 	public static final int LIGHTNING = 14;
 	public static final int GAME_MUSIC = 15;
 
+	// Game sounds tell the player what happened and are never left out, effects are limited.
+	private enum SoundCategory {
+		GAME(0),
+		EFFECT(3),
+		FIREWORK(6);
+
+		private final int minTicksBetween;
+
+		SoundCategory(int minTicksBetween) {
+			this.minTicksBetween = minTicksBetween;
+		}
+	}
+
+	private static final int[] SOUNDS_BY_PRIORITY = {
+			END_SOUND, LIFE_LOST_SOUND, START_SOUND, LIFE_SOUND, PARTY_SOUND, GODMODE_SOUND,
+			SLOW_MOTION_START, SLOW_MOTION_END, EXPLODE_SOUND, LIGHTNING, DESTROY_SOUND, SPAWN_SOUND,
+			FIREWORK_SOUND, ROCKET_SOUND
+	};
+
 	public static GameSounds getInstance() {
 		return INSTANCE;
 	}
 
-	private float soundsVolume = VOLUME_INIT_VALUE / 100.0f;
+	private volatile float soundsVolume = VOLUME_INIT_VALUE / 100.0f;
 	
-	private final AudioArray startSound;
-	private final AudioArray spawnSound;
-	private final AudioArray lifeSound;
-	private final AudioArray explodeSound;
-	private final AudioArray destroySound;
-	private final AudioArray partySound;
-	private final AudioArray godModeSound;
-	private final AudioArray endSound;
-	private final AudioArray lifeLostSound;
-	private final AudioArray fireworkSound;
-	private final AudioArray rocketSound;
-	private final AudioArray slowMotionStart;
-	private final AudioArray slowMotionEnd;
-	private final AudioArray lightning;
+	private final AudioMixer mixer;
+	private final AtomicIntegerArray requestedSounds = new AtomicIntegerArray(GAME_MUSIC);
+	private final long[] lastDispatchTicks = new long[GAME_MUSIC];
+	private long dispatchTick;
 	
-	private final Clip gameMusic;
+	private final CompletableFuture<AudioArray> startSound;
+	private final CompletableFuture<AudioArray> spawnSound;
+	private final CompletableFuture<AudioArray> lifeSound;
+	private final CompletableFuture<AudioArray> explodeSound;
+	private final CompletableFuture<AudioArray> destroySound;
+	private final CompletableFuture<AudioArray> partySound;
+	private final CompletableFuture<AudioArray> godModeSound;
+	private final CompletableFuture<AudioArray> endSound;
+	private final CompletableFuture<AudioArray> lifeLostSound;
+	private final CompletableFuture<AudioArray> fireworkSound;
+	private final CompletableFuture<AudioArray> rocketSound;
+	private final CompletableFuture<AudioArray> slowMotionStart;
+	private final CompletableFuture<AudioArray> slowMotionEnd;
+	private final CompletableFuture<AudioArray> lightning;
+	
+	private final CompletableFuture<MusicStream> gameMusic;
+	private volatile float gameMusicVolume = VOLUME_INIT_VALUE / 100.0f;
 	
 	private GameSounds() {
-		startSound = getAudioArray("./sounds/start.wav");
-		spawnSound = getAudioArray("./sounds/spawn.wav");
-		lifeSound = getAudioArray("./sounds/life.wav");
-		explodeSound = getAudioArray("./sounds/explode.wav");
-		destroySound = getAudioArray("./sounds/destroy.wav");
-		partySound = getAudioArray("./sounds/party.wav");
-		godModeSound = getAudioArray("./sounds/godmode.wav");
-		endSound = getAudioArray("./sounds/end.wav");
-		lifeLostSound = getAudioArray("./sounds/lifelost.wav");
-		fireworkSound = getAudioArray("./sounds/firework.wav");
-		rocketSound = getAudioArray("./sounds/rocket.wav");
-		slowMotionStart = getAudioArray("./sounds/slowmotionstart.wav");
-		slowMotionEnd = getAudioArray("./sounds/slowmotionend.wav");
-		lightning = getAudioArray("./sounds/lightning.wav");
+		mixer = new AudioMixer(SOUND_MAX_VOICES);
+		mixer.start();
+		Arrays.fill(lastDispatchTicks, Long.MIN_VALUE / 2);
+		
+		startSound = loadAudioArray("./sounds/start.wav");
+		spawnSound = loadAudioArray("./sounds/spawn.wav");
+		lifeSound = loadAudioArray("./sounds/life.wav");
+		explodeSound = loadAudioArray("./sounds/explode.wav");
+		destroySound = loadAudioArray("./sounds/destroy.wav");
+		partySound = loadAudioArray("./sounds/party.wav");
+		godModeSound = loadAudioArray("./sounds/godmode.wav");
+		endSound = loadAudioArray("./sounds/end.wav");
+		lifeLostSound = loadAudioArray("./sounds/lifelost.wav");
+		fireworkSound = loadAudioArray("./sounds/firework.wav");
+		rocketSound = loadAudioArray("./sounds/rocket.wav");
+		slowMotionStart = loadAudioArray("./sounds/slowmotionstart.wav");
+		slowMotionEnd = loadAudioArray("./sounds/slowmotionend.wav");
+		lightning = loadAudioArray("./sounds/lightning.wav");
 		
-		gameMusic = getAudioClip("./sounds/gamemusic.wav");
-		setClipVolume(gameMusic, VOLUME_INIT_VALUE / 100.0f);
+		gameMusic = GameAssets.getInstance().load(() -> getMusicStream("./sounds/gamemusic.wav"));
+		gameMusic.thenAccept(music -> {
+			if (music != null) {
+				music.setGain(gameMusicVolume);
+				mixer.setMusic(music);
+			}
+		});
+	}
+	
+	// The sounds are decoded on the worker threads of the GameAssets, the game starts without them.
+	private CompletableFuture<AudioArray> loadAudioArray(String path) {
+		return GameAssets.getInstance().load(() -> getAudioArray(path));
 	}
 	
+	// Sound effects are only counted here and played after the game tick, see dispatchRequestedSounds.
 	public void playSound(int soundType) {
-		try {
-			switch (soundType) {
-				case START_SOUND:
-					playAudioFromArray(startSound);
-					break;
-				case SPAWN_SOUND:
-					playAudioFromArray(spawnSound);
-					break;
-				case LIFE_SOUND:
-					playAudioFromArray(lifeSound);
-					break;
-				case EXPLODE_SOUND:
-					playAudioFromArray(explodeSound);
-					break;
-				case DESTROY_SOUND:
-					playAudioFromArray(destroySound);
-					break;
-				case PARTY_SOUND:
-					playAudioFromArray(partySound);
-					break;
-				case GODMODE_SOUND:
-					playAudioFromArray(godModeSound);
-					break;
-				case END_SOUND:
-					playAudioFromArray(endSound);
-					break;
-				case LIFE_LOST_SOUND:
-					playAudioFromArray(lifeLostSound);
-					break;
-				case FIREWORK_SOUND:
-					playAudioFromArray(fireworkSound);
-					break;
-				case ROCKET_SOUND:
-					playAudioFromArray(rocketSound);
-					break;
-				case SLOW_MOTION_START:
-					playAudioFromArray(slowMotionStart);
-					break;
-				case SLOW_MOTION_END:
-					playAudioFromArray(slowMotionEnd);
-					break;
-				case LIGHTNING:
-					playAudioFromArray(lightning);
-					break;
-				case GAME_MUSIC:
-					if (!gameMusic.isActive()) {
-						gameMusic.stop();
-						gameMusic.setFramePosition(0);
-						gameMusic.start();
-					}
-					break;
+		if (soundType == GAME_MUSIC) {
+			playGameMusic();
+		} else if (soundType > 0 && soundType < GAME_MUSIC) {
+			requestedSounds.incrementAndGet(soundType);
+		}
+	}
+	
+	// Called by the game loop after every game tick. A sound requested several times during the
+	// tick is played once and a bit louder. The same effect doesn't start again right away and only
+	// a few effects start per tick, the more important ones first. Game sounds always play.
+	public void dispatchRequestedSounds() {
+		dispatchTick++;
+		int effectsLeft = SOUND_MAX_EFFECTS_PER_TICK;
+		for (int soundType : SOUNDS_BY_PRIORITY) {
+			int requests = requestedSounds.getAndSet(soundType, 0);
+			if (requests == 0) {
+				continue;
 			}
-		} catch (NullPointerException e) {
-			System.out.println("Die Sounddatei konnte nicht abgespielt werden.");
+			SoundCategory category = getCategory(soundType);
+			if (dispatchTick - lastDispatchTicks[soundType] < TickRate.get().toTicks(category.minTicksBetween)) {
+				continue;
+			}
+			if (category != SoundCategory.GAME) {
+				if (effectsLeft == 0) {
+					continue;
+				}
+				effectsLeft--;
+			}
+			lastDispatchTicks[soundType] = dispatchTick;
+			float gain = soundsVolume * (float) Math.min(Math.sqrt(requests), SOUND_MAX_COALESCED_GAIN);
+			playAudioFromArray(getSound(soundType), gain);
+		}
+	}
+	
+	private CompletableFuture<AudioArray> getSound(int soundType) {
+		switch (soundType) {
+			case START_SOUND:
+				return startSound;
+			case SPAWN_SOUND:
+				return spawnSound;
+			case LIFE_SOUND:
+				return lifeSound;
+			case EXPLODE_SOUND:
+				return explodeSound;
+			case DESTROY_SOUND:
+				return destroySound;
+			case PARTY_SOUND:
+				return partySound;
+			case GODMODE_SOUND:
+				return godModeSound;
+			case END_SOUND:
+				return endSound;
+			case LIFE_LOST_SOUND:
+				return lifeLostSound;
+			case FIREWORK_SOUND:
+				return fireworkSound;
+			case ROCKET_SOUND:
+				return rocketSound;
+			case SLOW_MOTION_START:
+				return slowMotionStart;
+			case SLOW_MOTION_END:
+				return slowMotionEnd;
+			case LIGHTNING:
+				return lightning;
+			default:
+				return null;
+		}
+	}
+	
+	private SoundCategory getCategory(int soundType) {
+		switch (soundType) {
+			case SPAWN_SOUND:
+			case EXPLODE_SOUND:
+			case DESTROY_SOUND:
+			case LIGHTNING:
+				return SoundCategory.EFFECT;
+			case FIREWORK_SOUND:
+			case ROCKET_SOUND:
+				return SoundCategory.FIREWORK;
+			default:
+				return SoundCategory.GAME;
+		}
+	}
+	
+	// Music which is still loading is left out, just like the sounds.
+	private void playGameMusic() {
+		MusicStream music = gameMusic.getNow(null);
+		if (music == null) {
+			if (gameMusic.isDone()) {
+				System.out.println("Die Sounddatei konnte nicht abgespielt werden.");
+			}
+			return;
+		}
+		if (!music.isActive()) {
+			music.startOnce();
 		}
 	}
 	
 	public void startGameMusic() {
-		if (gameMusic == null) {
+		MusicStream music = gameMusic.getNow(null);
+		if (music == null) {
 			return;
 		}
-		gameMusic.stop();
-		gameMusic.setFramePosition(0);
-		gameMusic.loop(Clip.LOOP_CONTINUOUSLY);
+		music.startLooping();
 	}
 	
 	public void stopGameMusic() {
-		if (gameMusic == null) {
+		MusicStream music = gameMusic.getNow(null);
+		if (music == null) {
 			return;
 		}
-		gameMusic.stop();
+		music.stop();
 	}
 
-	private void playAudioFromArray(AudioArray audioArray) {
-		try {
-			Clip audioClip = AudioSystem.getClip();
-			audioClip.open(
-					audioArray.getAudioFormat(),
-					audioArray.getAudioData(),
-					0,
-					audioArray.getBufferSize()
-			);
-			setClipVolume(audioClip, soundsVolume);
-			audioClip.start();
-		} catch (Exception e) {
-			System.out.println("Der Sound konnte nicht abgespielt werden.");
-			System.out.println(e.getMessage());
+	// The mixer plays the sound on its own thread, the caller doesn't wait for it. A sound which
+	// is still loading is left out.
+	private void playAudioFromArray(CompletableFuture<AudioArray> sound, float gain) {
+		if (sound != null && !sound.isDone()) {
+			return;
+		}
+		AudioArray audioArray = sound == null ? null : sound.join();
+		if (audioArray == null) {
+			System.out.println("Die Sounddatei konnte nicht abgespielt werden.");
+			return;
 		}
+		mixer.play(audioArray, gain);
 	}
 	
+	// The sound is decoded once into the format of the mixer, so playing it needs no conversion.
 	private AudioArray getAudioArray(String path) {
-		byte[] audioData;
-		AudioFormat audioFormat;
-		File audioFile = new File(path);
-		audioData = new byte[(int) audioFile.length()];
-		try (AudioInputStream ais = AudioSystem.getAudioInputStream(audioFile)) {
-			ais.read(audioData);
-			audioFormat = ais.getFormat();
-			return new AudioArray(audioData, audioFormat);
+		try (
+				AudioInputStream fileStream = AudioSystem.getAudioInputStream(new File(path));
+				AudioInputStream mixerStream = AudioMixer.toMixerFormat(fileStream)
+		) {
+			return new AudioArray(new File(path).getName(), mixerStream.readAllBytes());
 		} catch (Exception e) {
 			System.out.println("Die Sounddatei konnte nicht geladen werden.");
 			return null;
 		}
 	}
 
-	private Clip getAudioClip(String path) {
-		Clip audioClip;
+	// The music is only checked here, the mixer reads it from the file while it plays.
+	private MusicStream getMusicStream(String path) {
 		try {
-			audioClip = AudioSystem.getClip();
-			AudioInputStream ais = AudioSystem.getAudioInputStream(new File(path));
-			audioClip.open(ais);
+			return new MusicStream(new File(path), SOUND_MUSIC_BUFFER_FRAMES * AudioMixer.FORMAT.getFrameSize());
 		} catch (Exception e) {
 			System.out.println("Die Sounddatei konnte nicht geladen werden.");
-			audioClip = null;
+			return null;
 		}
-		return audioClip;
 	}
 
-	private void setClipVolume(Clip clip, float volume) {
-		if (clip == null) {
-			return;
-		}
-		FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
-		gainControl.setValue(20f * (float) Math.log10(volume));
-		
+	public int getNumberOfPlayingVoices() {
+		return mixer.getNumberOfPlayingVoices();
 	}
 
 	public void setSoundsVolume(int volumePercent) {
@@ -220,7 +291,11 @@ public class GameSounds {
 	}
 
 	public void setGameMusicVolume(int volumePercent) {
-		setClipVolume(gameMusic, volumePercent / 100.0f);
+		gameMusicVolume = volumePercent / 100.0f;
+		MusicStream music = gameMusic.getNow(null);
+		if (music != null) {
+			music.setGain(gameMusicVolume);
+		}
 	}
 
 }
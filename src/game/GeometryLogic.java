@@ -41,18 +41,22 @@ public class GeometryLogic {
     }
 
     public static CircleAngle angleToPoint(double pointX, double pointY, double otherPointX, double otherPointY) {
+        return new CircleAngle(angleValueToPoint(pointX, pointY, otherPointX, otherPointY));
+    }
+
+    public static double angleValueToPoint(double pointX, double pointY, double otherPointX, double otherPointY) {
         double xDifference = xDifferenceToPoint(pointX, otherPointX);
         double yDifference = yDifferenceToPoint(pointY, otherPointY);
         double angleFromZeroOrOneEighty = Math.atan(Math.abs(yDifference) / Math.abs(xDifference));
         double angleFromNinetyOrTwoSeventy = Math.atan(Math.abs(xDifference) / Math.abs(yDifference));
         if (xDifference >= 0 && yDifference >= 0) {
-            return new CircleAngle(angleFromZeroOrOneEighty);
+            return CircleAngle.getAngleInRange(angleFromZeroOrOneEighty);
         } else if (xDifference < 0 && yDifference >= 0) {
-            return new CircleAngle(CircleAngle.DEGREE_90.get() + angleFromNinetyOrTwoSeventy);
+            return CircleAngle.getAngleInRange(CircleAngle.DEGREE_90.get() + angleFromNinetyOrTwoSeventy);
         } else if (xDifference < 0 && yDifference < 0) {
-            return new CircleAngle(CircleAngle.DEGREE_180.get() + angleFromZeroOrOneEighty);
+            return CircleAngle.getAngleInRange(CircleAngle.DEGREE_180.get() + angleFromZeroOrOneEighty);
         } else {
-            return new CircleAngle(CircleAngle.DEGREE_270.get() + angleFromNinetyOrTwoSeventy);
+            return CircleAngle.getAngleInRange(CircleAngle.DEGREE_270.get() + angleFromNinetyOrTwoSeventy);
         }
     }
 
@@ -61,18 +65,22 @@ public class GeometryLogic {
     }
 
     public static CircleAngle getDirectionAfterCollision(CircleAngle collisionAngle, CircleAngle direction) {
-        CircleAngle angleBetween = CircleAngle.smallerAngleBetween(collisionAngle, direction);
-        CircleAngle change;
-        if (angleBetween.get() <= CircleAngle.DEGREE_90.get()) {
-            change = CircleAngle.DEGREE_90.subtract(angleBetween).multiply(2);
+        return new CircleAngle(getDirectionAfterCollision(collisionAngle.get(), direction.get()));
+    }
+
+    public static double getDirectionAfterCollision(double collisionAngle, double direction) {
+        double angleBetween = CircleAngle.smallerAngleBetween(collisionAngle, direction);
+        double change;
+        if (angleBetween <= CircleAngle.DEGREE_90.get()) {
+            change = CircleAngle.multiply(CircleAngle.subtract(CircleAngle.DEGREE_90.get(), angleBetween), 2);
         } else {
-            change = CircleAngle.DEGREE_180.subtract(angleBetween).divide(2);
+            change = CircleAngle.divide(CircleAngle.subtract(CircleAngle.DEGREE_180.get(), angleBetween), 2);
         }
-        CircleAngle newAngleOne = direction.subtract(change);
-        CircleAngle newAngleTwo = direction.add(change);
-        CircleAngle angleBetweenOne = CircleAngle.smallerAngleBetween(newAngleOne, collisionAngle);
-        CircleAngle angleBetweenTwo = CircleAngle.smallerAngleBetween(newAngleTwo, collisionAngle);
-        if (angleBetweenOne.get() > angleBetweenTwo.get()) {
+        double newAngleOne = CircleAngle.subtract(direction, change);
+        double newAngleTwo = CircleAngle.add(direction, change);
+        double angleBetweenOne = CircleAngle.smallerAngleBetween(newAngleOne, collisionAngle);
+        double angleBetweenTwo = CircleAngle.smallerAngleBetween(newAngleTwo, collisionAngle);
+        if (angleBetweenOne > angleBetweenTwo) {
             return newAngleOne;
         } else {
             return newAngleTwo;
@@ -80,8 +88,11 @@ public class GeometryLogic {
     }
 
     public static double getSpeedAfterCollision(CircleAngle collisionAngle, CircleAngle direction, double currentSpeed) {
-        CircleAngle angleBetween = CircleAngle.smallerAngleBetween(collisionAngle, direction);
-        if (angleBetween.get() <= CircleAngle.DEGREE_90.get()) {
+        return getSpeedAfterCollision(collisionAngle.get(), direction.get(), currentSpeed);
+    }
+
+    public static double getSpeedAfterCollision(double collisionAngle, double direction, double currentSpeed) {
+        if (CircleAngle.smallerAngleBetween(collisionAngle, direction) <= CircleAngle.DEGREE_90.get()) {
             return currentSpeed - COLLISION_SPEED_CHANGE;
         } else {
             return currentSpeed + COLLISION_SPEED_CHANGE;
@@ -18,6 +18,9 @@
 
 package game;
 
+import static game.GameConstants.SCREEN_BOUNDS_MARGIN;
+
+import java.awt.Rectangle;
 import java.util.Random;
 
 public class Helpers {
@@ -27,5 +30,15 @@ public class Helpers {
 	public static int toPixelInt(double position) {
 		return (int) Math.round(position);
 	}
+	
+	// Sets the bounds to the pixels touched when drawing inside the given area, with a margin
+	// for anti-aliasing.
+	public static void setScreenBounds(Rectangle bounds, double minX, double minY, double maxX, double maxY) {
+		int left = (int) Math.floor(minX) - SCREEN_BOUNDS_MARGIN;
+		int top = (int) Math.floor(minY) - SCREEN_BOUNDS_MARGIN;
+		int right = (int) Math.ceil(maxX) + SCREEN_BOUNDS_MARGIN;
+		int bottom = (int) Math.ceil(maxY) + SCREEN_BOUNDS_MARGIN;
+		bounds.setBounds(left, top, right - left, bottom - top);
+	}
 
 }
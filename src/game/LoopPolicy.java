@@ -0,0 +1,47 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game;
+
+// What the game loop does when it falls behind, for example because a tick or a frame took
+// longer than a tick length.
+public enum LoopPolicy {
+
+    // Runs one tick and drops the ticks that are already late, the game keeps its speed.
+    SKIP("skip"),
+    // Replays late ticks right away, at most GAME_LOOP_MAX_CATCH_UP_TICKS per pass. Only the
+    // ticks beyond that are dropped.
+    CATCH_UP("catch-up"),
+    // Never drops a tick, the game runs slower as long as the loop is behind.
+    SLOW_DOWN("slow-down");
+
+    private final String argument;
+
+    LoopPolicy(String argument) {
+        this.argument = argument;
+    }
+
+    public static LoopPolicy fromArgument(String argument) {
+        for (LoopPolicy policy : values()) {
+            if (policy.argument.equals(argument)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+}
@@ -18,21 +18,76 @@
 
 package game;
 
+import static game.GameConstants.*;
+
 import game.gui.GameWindow;
 
 import java.awt.EventQueue;
+import java.util.Arrays;
 
 public class Main {
 
+	private static final String LOOP_POLICY_ARGUMENT = "--loop-policy=";
+	private static final String TICK_RATE_ARGUMENT = "--tick-rate=";
+
 	public static void main(String[] args) {
+		if (args.length > 0 && args[0].equals("--stress")) {
+			StressMode.run();
+			System.exit(0);
+		}
+		// Draws the game field from the game loop into a page flipped canvas instead of Swing repaints.
+		boolean activeRendering = Arrays.asList(args).contains("--active-rendering");
+		// Draws at the refresh rate of the screen, the moving objects between the last two ticks.
+		boolean interpolating = Arrays.asList(args).contains("--interpolate");
+		LoopPolicy loopPolicy = getLoopPolicy(args);
+		TickRate.set(getTickRate(args));
+		// All files are loaded in parallel, the sounds are still loading while the window is shown.
+		GameAssets assets = GameAssets.getInstance();
+		assets.load(GameSounds::getInstance);
+		assets.awaitWindowAssets();
 		EventQueue.invokeLater(() -> {
 			try {
-				GameWindow frame = new GameWindow();
+				GameWindow frame = new GameWindow(activeRendering, loopPolicy, interpolating);
 				frame.setVisible(true);
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
 		});
+		// While the window is built, so loading the JMX classes doesn't delay the first frame.
+		TickProfiler.getInstance().register();
+	}
+
+	// --loop-policy=skip, catch-up or slow-down chooses what the game loop does when it falls behind.
+	private static LoopPolicy getLoopPolicy(String[] args) {
+		for (String arg : args) {
+			if (arg.startsWith(LOOP_POLICY_ARGUMENT)) {
+				LoopPolicy policy = LoopPolicy.fromArgument(arg.substring(LOOP_POLICY_ARGUMENT.length()));
+				if (policy != null) {
+					return policy;
+				}
+				System.out.println("Unbekannte Schleifenstrategie, es wird catch-up verwendet.");
+			}
+		}
+		return LoopPolicy.CATCH_UP;
+	}
+
+	// --tick-rate sets the game ticks per second, the game runs equally fast at every tick rate.
+	private static TickRate getTickRate(String[] args) {
+		for (String arg : args) {
+			if (arg.startsWith(TICK_RATE_ARGUMENT)) {
+				try {
+					int ticksPerSecond = Integer.parseInt(arg.substring(TICK_RATE_ARGUMENT.length()));
+					if (TickRate.isSupported(ticksPerSecond)) {
+						return new TickRate(ticksPerSecond);
+					}
+				} catch (NumberFormatException e) {
+					// Falls through to the message below.
+				}
+				System.out.println("Die Tickrate muss zwischen " + GAME_MIN_TICK_RATE + " und "
+						+ GAME_MAX_TICK_RATE + " liegen, es wird die normale Tickrate verwendet.");
+			}
+		}
+		return TickRate.get();
 	}
 
 }
@@ -0,0 +1,170 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+// Music read from its file while it plays instead of being loaded completely. The audio thread
+// of the AudioMixer reads the file through a small ring buffer. At the end of the file it starts
+// again within the same buffer, so the music loops without a gap.
+public class MusicStream {
+
+    private static final int NO_COMMAND = 0;
+    private static final int START_ONCE = 1;
+    private static final int START_LOOPING = 2;
+    private static final int STOP = 3;
+    private static final int FRAME_SIZE = AudioMixer.FORMAT.getFrameSize();
+
+    private final File file;
+    private final byte[] ring;
+    private int readIndex;
+    private int available;
+    private AudioInputStream stream;
+    private boolean looping;
+
+    // Commands of the other threads, the audio thread carries them out before mixing.
+    private final AtomicInteger command = new AtomicInteger(NO_COMMAND);
+    private volatile boolean active;
+    private volatile float gain = 1;
+
+    public MusicStream(File file, int ringBytes) throws IOException, UnsupportedAudioFileException {
+        this.file = file;
+        // Streams only read whole frames, so the ring holds whole frames too.
+        ring = new byte[ringBytes - ringBytes % FRAME_SIZE];
+        // Fails right away if the file can't be played.
+        openStream().close();
+    }
+
+    public void startLooping() {
+        active = true;
+        command.set(START_LOOPING);
+    }
+
+    public void startOnce() {
+        active = true;
+        command.set(START_ONCE);
+    }
+
+    public void stop() {
+        active = false;
+        command.set(STOP);
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setGain(float gain) {
+        this.gain = gain;
+    }
+
+    // Called by the audio thread only.
+    void mixInto(int[] mixBuffer, int numberOfSamples) {
+        carryOutCommand();
+        if (stream == null) {
+            return;
+        }
+        float currentGain = gain;
+        try {
+            for (int i = 0; i < numberOfSamples; i++) {
+                if (available < 2 && !fill()) {
+                    closeStream();
+                    active = false;
+                    return;
+                }
+                int sample = (short) ((ring[(readIndex + 1) % ring.length] << 8) | (ring[readIndex] & 0xff));
+                mixBuffer[i] += (int) (sample * currentGain);
+                readIndex = (readIndex + 2) % ring.length;
+                available -= 2;
+            }
+        } catch (IOException | UnsupportedAudioFileException e) {
+            System.out.println("Die Musik konnte nicht weiter abgespielt werden.");
+            System.out.println(e.getMessage());
+            closeStream();
+            active = false;
+        }
+    }
+
+    private void carryOutCommand() {
+        int nextCommand = command.getAndSet(NO_COMMAND);
+        if (nextCommand == NO_COMMAND) {
+            return;
+        }
+        closeStream();
+        if (nextCommand == STOP) {
+            return;
+        }
+        looping = nextCommand == START_LOOPING;
+        try {
+            stream = openStream();
+        } catch (IOException | UnsupportedAudioFileException e) {
+            System.out.println("Die Musik konnte nicht abgespielt werden.");
+            active = false;
+        }
+    }
+
+    // Reads as much as fits into the ring, starting the file again at its end when looping.
+    // Returns false when the music is over.
+    private boolean fill() throws IOException, UnsupportedAudioFileException {
+        boolean restarted = false;
+        while (available < ring.length) {
+            int writeIndex = (readIndex + available) % ring.length;
+            int length = Math.min(ring.length - available, ring.length - writeIndex);
+            int read = stream.read(ring, writeIndex, length);
+            if (read > 0) {
+                available += read;
+                restarted = false;
+            } else if (read == 0) {
+                break;
+            } else {
+                if (!looping || restarted) {
+                    break;
+                }
+                stream.close();
+                stream = openStream();
+                restarted = true;
+            }
+        }
+        return available >= 2;
+    }
+
+    private AudioInputStream openStream() throws IOException, UnsupportedAudioFileException {
+        return AudioMixer.toMixerFormat(AudioSystem.getAudioInputStream(file));
+    }
+
+    private void closeStream() {
+        if (stream != null) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                // Nothing is read from the stream anymore.
+            }
+            stream = null;
+        }
+        readIndex = 0;
+        available = 0;
+    }
+
+}
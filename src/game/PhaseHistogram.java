@@ -0,0 +1,138 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Durations in nanoseconds counted in buckets of fixed size, like an HDR histogram: every power
+// of two is split into the same number of buckets, so the percentiles are off by at most 3%.
+// Only one thread records, any thread may read while it does.
+public class PhaseHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    // Longer durations are counted as this one, about 18 minutes.
+    private static final long MAX_VALUE = (1L << 40) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(getNumberOfBuckets());
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+    private volatile boolean resetRequested;
+
+    // Doesn't allocate and takes no lock, the recording thread is the only one writing.
+    public void record(long nanos) {
+        if (resetRequested) {
+            resetRequested = false;
+            for (int i = 0; i < counts.length(); i++) {
+                counts.lazySet(i, 0);
+            }
+            totalCount.lazySet(0);
+            maxValue.lazySet(0);
+        }
+        long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+        int index = getIndex(value);
+        counts.lazySet(index, counts.get(index) + 1);
+        totalCount.lazySet(totalCount.get() + 1);
+        if (value > maxValue.get()) {
+            maxValue.lazySet(value);
+        }
+    }
+
+    // The counts are cleared by the recording thread with the next value.
+    public void reset() {
+        resetRequested = true;
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    // Returns the highest duration of the bucket the percentile falls into.
+    public long getPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(getHighestValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    // Writes the counts recorded since the last call into intervalCounts, with previousCounts
+    // kept by the caller. Returns the number of values in the interval.
+    public long readInterval(long[] previousCounts, long[] intervalCounts) {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long current = counts.get(i);
+            // After a reset the counts start again from zero.
+            intervalCounts[i] = current >= previousCounts[i] ? current - previousCounts[i] : current;
+            previousCounts[i] = current;
+            count += intervalCounts[i];
+        }
+        return count;
+    }
+
+    // The percentile of counts read with readInterval, with the same precision as getPercentile.
+    public static long getPercentile(long[] intervalCounts, long count, double percentile) {
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < intervalCounts.length; i++) {
+            seen += intervalCounts[i];
+            if (seen >= rank) {
+                return getHighestValue(i);
+            }
+        }
+        return 0;
+    }
+
+    public static int getNumberOfBuckets() {
+        return getIndex(MAX_VALUE) + 1;
+    }
+
+    // Values below SUB_BUCKETS have their own bucket, above that the highest bits of the value
+    // choose one of the upper half of the sub buckets of its power of two.
+    private static int getIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return shift * HALF_SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    private static long getHighestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / HALF_SUB_BUCKETS - 1;
+        long subBucket = index % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+}
@@ -18,7 +18,7 @@
 
 package game;
 
-import static game.GeometryLogic.angleToPoint;
+import static game.GeometryLogic.angleValueToPoint;
 import static game.GeometryLogic.xDistanceToPoint;
 import static game.GeometryLogic.yDistanceToPoint;
 
@@ -37,21 +37,21 @@ public interface PlayerCollidable extends Collidable {
             return null;
         }
         GameShape objectShape = getShape();
-        CircleAngle collisionAngle = player.getCollisionAngle(this);
-        CircleAngle newAngleOne = collisionAngle.subtract(CircleAngle.DEGREE_90);
-        CircleAngle newAngleTwo = collisionAngle.add(CircleAngle.DEGREE_90);
-        CircleAngle angleBetweenOne = CircleAngle.smallerAngleBetween(newAngleOne, direction);
-        CircleAngle angleBetweenTwo = CircleAngle.smallerAngleBetween(newAngleTwo, direction);
+        double collisionAngle = player.getCollisionAngleValue(this);
+        double newAngleOne = CircleAngle.subtract(collisionAngle, CircleAngle.DEGREE_90.get());
+        double newAngleTwo = CircleAngle.add(collisionAngle, CircleAngle.DEGREE_90.get());
+        double angleBetweenOne = CircleAngle.smallerAngleBetween(newAngleOne, direction.get());
+        double angleBetweenTwo = CircleAngle.smallerAngleBetween(newAngleTwo, direction.get());
         if (objectShape instanceof Circle) {
-            if (CircleAngle.smallerAngleBetween(collisionAngle, direction).get() >= CircleAngle.DEGREE_90.get()) {
+            if (CircleAngle.smallerAngleBetween(collisionAngle, direction.get()) >= CircleAngle.DEGREE_90.get()) {
                 return direction;
             }
-            if (angleBetweenOne.get() < angleBetweenTwo.get()) {
-                return newAngleOne;
+            if (angleBetweenOne < angleBetweenTwo) {
+                return CircleAngle.valueOf(newAngleOne);
             }
-            return newAngleTwo;
+            return CircleAngle.valueOf(newAngleTwo);
         } else if (objectShape instanceof Square) {
-            if (collisionAngle.get() == CircleAngle.DEGREE_0.get()) {
+            if (collisionAngle == CircleAngle.DEGREE_0.get()) {
                 if (direction == MoveDirections.UP_RIGHT.getAngle()) {
                     return MoveDirections.UP.getAngle();
                 } else if (direction == MoveDirections.DOWN_RIGHT.getAngle()){
@@ -59,7 +59,7 @@ public interface PlayerCollidable extends Collidable {
                 } else if (direction == MoveDirections.RIGHT.getAngle()) {
                     return null;
                 }
-            } else if (collisionAngle.get() == CircleAngle.DEGREE_90.get()) {
+            } else if (collisionAngle == CircleAngle.DEGREE_90.get()) {
                 if (direction == MoveDirections.DOWN_LEFT.getAngle()) {
                     return MoveDirections.LEFT.getAngle();
                 } else if (direction == MoveDirections.DOWN_RIGHT.getAngle()){
@@ -67,7 +67,7 @@ public interface PlayerCollidable extends Collidable {
                 } else if (direction == MoveDirections.DOWN.getAngle()) {
                     return null;
                 }
-            } else if (collisionAngle.get() == CircleAngle.DEGREE_180.get()) {
+            } else if (collisionAngle == CircleAngle.DEGREE_180.get()) {
                 if (direction == MoveDirections.UP_LEFT.getAngle()) {
                     return MoveDirections.UP.getAngle();
                 } else if (direction == MoveDirections.DOWN_LEFT.getAngle()){
@@ -75,7 +75,7 @@ public interface PlayerCollidable extends Collidable {
                 } else if (direction == MoveDirections.LEFT.getAngle()) {
                     return null;
                 }
-            } else if (collisionAngle.get() == CircleAngle.DEGREE_270.get()) {
+            } else if (collisionAngle == CircleAngle.DEGREE_270.get()) {
                 if (direction == MoveDirections.UP_LEFT.getAngle()) {
                     return MoveDirections.LEFT.getAngle();
                 } else if (direction == MoveDirections.UP_RIGHT.getAngle()){
@@ -84,25 +84,25 @@ public interface PlayerCollidable extends Collidable {
                     return null;
                 }
             } else {
-                if (CircleAngle.smallerAngleBetween(collisionAngle, direction).get() >= CircleAngle.DEGREE_90.get()) {
+                if (CircleAngle.smallerAngleBetween(collisionAngle, direction.get()) >= CircleAngle.DEGREE_90.get()) {
                     return direction;
                 }
-                if (angleBetweenOne.get() < angleBetweenTwo.get()) {
-                    return newAngleOne;
+                if (angleBetweenOne < angleBetweenTwo) {
+                    return CircleAngle.valueOf(newAngleOne);
                 }
-                return newAngleTwo;
+                return CircleAngle.valueOf(newAngleTwo);
             }
         } else if (objectShape instanceof Line) {
-        	if (direction.equals(collisionAngle)) {
+        	if (direction.get() == collisionAngle) {
         		return null;
         	}
-        	if (CircleAngle.smallerAngleBetween(collisionAngle, direction).get() >= CircleAngle.DEGREE_90.get()) {
+        	if (CircleAngle.smallerAngleBetween(collisionAngle, direction.get()) >= CircleAngle.DEGREE_90.get()) {
                 return direction;
             }
-        	if (angleBetweenOne.get() < angleBetweenTwo.get()) {
-                return newAngleOne;
+        	if (angleBetweenOne < angleBetweenTwo) {
+                return CircleAngle.valueOf(newAngleOne);
             }
-            return newAngleTwo;
+            return CircleAngle.valueOf(newAngleTwo);
         }
         return direction;
     }
@@ -112,14 +112,14 @@ public interface PlayerCollidable extends Collidable {
     		return 0.0;
     	}
     	GameShape shape = getShape();
-    	CircleAngle angleToThis = angleToPoint(player.getPosition(), this.getPosition());
-    	double actualDistance = this.getPosition().distance(player.getPosition());
+    	double angleToThis = angleValueToPoint(player.getPosX(), player.getPosY(), getPosX(), getPosY());
+    	double actualDistance = Point2D.distance(getPosX(), getPosY(), player.getPosX(), player.getPosY());
     	double possibleMovement = 0.0;
     	if (shape instanceof Circle circle) {
     		double collisionDistance = circle.getRadius() + player.getRadius();
     		// In a triangle with sides a, b, c and angles A, B, C where collisionDistance is 'a'
             // and actualDistance is 'b'.
-    		double angleA = CircleAngle.smallerAngleBetween(angleToThis, direction).get();
+    		double angleA = CircleAngle.smallerAngleBetween(angleToThis, direction.get());
     		if (angleA >= CircleAngle.DEGREE_90.get()) {
     			return player.getSpeed();
     		}
@@ -134,21 +134,21 @@ public interface PlayerCollidable extends Collidable {
             double xDistance = xDistanceToPoint(this.getPosX(), player.getPosX());
             double yDistance = yDistanceToPoint(this.getPosY(), player.getPosY());
             double movementToSquareSide;
-            CircleAngle angleToSquareSide;
-    		if (angleToThis.isBetweenOrEqual(CircleAngle.DEGREE_45, CircleAngle.DEGREE_135)) {
+            double angleToSquareSide;
+    		if (CircleAngle.isBetweenOrEqual(angleToThis, CircleAngle.DEGREE_45.get(), CircleAngle.DEGREE_135.get())) {
     			movementToSquareSide = yDistance - xyMinDistance;
-    			angleToSquareSide = CircleAngle.DEGREE_90;
-            } else if (angleToThis.isBetween(CircleAngle.DEGREE_135, CircleAngle.DEGREE_225)) {
+    			angleToSquareSide = CircleAngle.DEGREE_90.get();
+            } else if (CircleAngle.isBetween(angleToThis, CircleAngle.DEGREE_135.get(), CircleAngle.DEGREE_225.get())) {
             	movementToSquareSide = xDistance - xyMinDistance;
-    			angleToSquareSide = CircleAngle.DEGREE_180;
-            } else if (angleToThis.isBetweenOrEqual(CircleAngle.DEGREE_225, CircleAngle.DEGREE_315)) {
+    			angleToSquareSide = CircleAngle.DEGREE_180.get();
+            } else if (CircleAngle.isBetweenOrEqual(angleToThis, CircleAngle.DEGREE_225.get(), CircleAngle.DEGREE_315.get())) {
             	movementToSquareSide = yDistance - xyMinDistance;
-    			angleToSquareSide = CircleAngle.DEGREE_270;
+    			angleToSquareSide = CircleAngle.DEGREE_270.get();
             } else {
             	movementToSquareSide = xDistance - xyMinDistance;
-    			angleToSquareSide = CircleAngle.DEGREE_0;
+    			angleToSquareSide = CircleAngle.DEGREE_0.get();
             }
-    		double angleBetween = CircleAngle.smallerAngleBetween(angleToSquareSide, direction).get();
+    		double angleBetween = CircleAngle.smallerAngleBetween(angleToSquareSide, direction.get());
     		if (angleBetween >= CircleAngle.DEGREE_90.get()) {
     			return player.getSpeed();
     		}
@@ -158,22 +158,22 @@ public interface PlayerCollidable extends Collidable {
     		possibleMovement = movementToSquareSide / Math.cos(angleBetween);
     	} else if (shape instanceof Line line) {
     		double angleOffset = CircleAngle.smallerAngleBetween(
-                    CircleAngle.oppositeAngle(angleToThis), line.getAngle()
-            ).get();
-        	double distance = this.getPosition().distance(player.getPosition());
-            Point2D.Double secondPoint = Line.getSecondPoint(line, getPosX(), getPosY());
-        	if (angleOffset > CircleAngle.DEGREE_90.get() || distance > line.getLength() / Math.cos(angleOffset)) {
+                    CircleAngle.oppositeAngle(angleToThis), line.getAngle().get()
+            );
+            double secondPointX = getPosX() + Math.cos(line.getAngle().get()) * line.getLength();
+            double secondPointY = getPosY() + Math.sin(line.getAngle().get()) * line.getLength();
+        	if (angleOffset > CircleAngle.DEGREE_90.get() || actualDistance > line.getLength() / Math.cos(angleOffset)) {
         		possibleMovement = Math.min(
         				actualDistance, 
-        				secondPoint.distance(player.getPosition())
+        				Point2D.distance(secondPointX, secondPointY, player.getPosX(), player.getPosY())
         		) - player.getRadius();
         	} else {
         		double movementToLine = Math.sin(angleOffset) * actualDistance - player.getRadius();
         		if (movementToLine < 0.0) {
         			return 0.0;
         		}
-                CircleAngle collisionAngle = player.getCollisionAngle(this);
-                double angleBetween = CircleAngle.smallerAngleBetween(collisionAngle, direction).get();
+                double collisionAngle = player.getCollisionAngleValue(this);
+                double angleBetween = CircleAngle.smallerAngleBetween(collisionAngle, direction.get());
                 if (angleBetween >= CircleAngle.DEGREE_90.get()) {
                     return player.getSpeed();
                 }
@@ -20,14 +20,14 @@ package game;
 
 public class PlayerMovement {
 	
-	private boolean leftValue;
-	private boolean topValue;
-	private boolean rightValue;
-	private boolean bottomValue;
-	private boolean aValue;
-	private boolean wValue;
-	private boolean dValue;
-	private boolean sValue;
+	private volatile boolean leftValue;
+	private volatile boolean topValue;
+	private volatile boolean rightValue;
+	private volatile boolean bottomValue;
+	private volatile boolean aValue;
+	private volatile boolean wValue;
+	private volatile boolean dValue;
+	private volatile boolean sValue;
 	
 	public void setLeftValue(boolean isMoving) {
 		leftValue = isMoving && !rightValue && !dValue;
@@ -0,0 +1,120 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import game.animations.FireworkShow;
+import game.gameFieldObjects.PlayerBall;
+
+import java.util.Arrays;
+import java.util.List;
+
+// The state of the game for the painting. The game loop fills one of the buffers while the
+// other one is painted, and refills a buffer with the copies of the objects from its last
+// update, so a snapshot doesn't allocate anything once the objects have their copies.
+public final class RenderSnapshot {
+
+    public static final int NUMBER_OF_BUFFERS = 2;
+
+    private final int buffer;
+    // The places behind the objects keep their old copies until they are needed again, so a
+    // thread reading the snapshot while it is refilled never finds an empty one.
+    private GameObject[] gameObjects = new GameObject[64];
+    private int numberOfGameObjects;
+    private FireworkShow[] fireworkShows = new FireworkShow[1];
+    private int numberOfFireworkShows;
+    private PlayerBall player;
+    private GameState gameState;
+    private int points;
+    private int lives;
+    private long ticks;
+    private long creationNanos;
+
+    public RenderSnapshot(int buffer) {
+        this.buffer = buffer;
+    }
+
+    void update(List<GameObject> objects, PlayerBall player, GameState gameState, int points, int lives,
+                long ticks) {
+        if (gameObjects.length < objects.size()) {
+            gameObjects = Arrays.copyOf(gameObjects, Math.max(objects.size(), gameObjects.length * 2));
+        }
+        numberOfFireworkShows = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            GameObject objectSnapshot = objects.get(i).getSnapshot(buffer);
+            gameObjects[i] = objectSnapshot;
+            if (objectSnapshot instanceof FireworkShow fireworkShow) {
+                if (numberOfFireworkShows == fireworkShows.length) {
+                    fireworkShows = Arrays.copyOf(fireworkShows, fireworkShows.length * 2);
+                }
+                fireworkShows[numberOfFireworkShows++] = fireworkShow;
+            }
+        }
+        numberOfGameObjects = objects.size();
+        this.player = (PlayerBall) player.getSnapshot(buffer);
+        this.gameState = gameState;
+        this.points = points;
+        this.lives = lives;
+        this.ticks = ticks;
+        creationNanos = System.nanoTime();
+    }
+
+    public int getNumberOfGameObjects() {
+        return numberOfGameObjects;
+    }
+
+    public GameObject getGameObject(int index) {
+        return gameObjects[index];
+    }
+
+    public int getNumberOfFireworkShows() {
+        return numberOfFireworkShows;
+    }
+
+    public FireworkShow getFireworkShow(int index) {
+        return fireworkShows[index];
+    }
+
+    public PlayerBall getPlayer() {
+        return player;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    // The ticks the simulation has run, so things shown outside the game field can follow the
+    // game time.
+    public long getTicks() {
+        return ticks;
+    }
+
+    // When the tick of this snapshot ended, the start of the interpolation to its positions.
+    public long getCreationNanos() {
+        return creationNanos;
+    }
+
+}
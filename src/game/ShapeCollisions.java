@@ -0,0 +1,270 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import static game.GeometryLogic.*;
+
+import game.shapes.Circle;
+import game.shapes.Line;
+import game.shapes.ShapeKind;
+import game.shapes.Square;
+
+import java.awt.geom.Point2D;
+
+// Narrow phase collision tests for every pair of shape kinds. The routine for a pair is looked up
+// in a table indexed by the shape kinds, pairs in reversed order use the same routine with
+// swapped objects.
+public final class ShapeCollisions {
+
+    @FunctionalInterface
+    private interface CollisionTest {
+        boolean isColliding(Collidable objectOne, Collidable objectTwo);
+    }
+
+    @FunctionalInterface
+    private interface CollisionAngleTest {
+        double getCollisionAngle(Collidable objectOne, Collidable objectTwo);
+    }
+
+    private static final int NUMBER_OF_KINDS = ShapeKind.values().length;
+    private static final CollisionTest[][] COLLISION_TESTS = new CollisionTest[NUMBER_OF_KINDS][NUMBER_OF_KINDS];
+    private static final CollisionAngleTest[][] COLLISION_ANGLE_TESTS =
+            new CollisionAngleTest[NUMBER_OF_KINDS][NUMBER_OF_KINDS];
+
+    static {
+        register(ShapeKind.CIRCLE, ShapeKind.CIRCLE,
+                ShapeCollisions::isCircleCollidingWithCircle, ShapeCollisions::getCircleCircleAngle);
+        register(ShapeKind.SQUARE, ShapeKind.SQUARE,
+                ShapeCollisions::isSquareCollidingWithSquare, ShapeCollisions::getSquareSquareAngle);
+        register(ShapeKind.LINE, ShapeKind.LINE,
+                (lineOne, lineTwo) -> false, (lineOne, lineTwo) -> CircleAngle.DEGREE_0.get());
+        register(ShapeKind.CIRCLE, ShapeKind.SQUARE,
+                ShapeCollisions::isCircleCollidingWithSquare, ShapeCollisions::getCircleSquareAngle);
+        register(ShapeKind.CIRCLE, ShapeKind.LINE,
+                ShapeCollisions::isCircleCollidingWithLine, ShapeCollisions::getAngleToLine);
+        register(ShapeKind.SQUARE, ShapeKind.LINE,
+                ShapeCollisions::isSquareCollidingWithLine, ShapeCollisions::getAngleToLine);
+    }
+
+    private ShapeCollisions() {
+    }
+
+    private static void register(ShapeKind kindOne, ShapeKind kindTwo,
+                                 CollisionTest collisionTest, CollisionAngleTest collisionAngleTest) {
+        int one = kindOne.ordinal();
+        int two = kindTwo.ordinal();
+        COLLISION_TESTS[one][two] = collisionTest;
+        COLLISION_ANGLE_TESTS[one][two] = collisionAngleTest;
+        if (one != two) {
+            COLLISION_TESTS[two][one] = (objectOne, objectTwo) -> collisionTest.isColliding(objectTwo, objectOne);
+            COLLISION_ANGLE_TESTS[two][one] = (objectOne, objectTwo) ->
+                    CircleAngle.oppositeAngle(collisionAngleTest.getCollisionAngle(objectTwo, objectOne));
+        }
+    }
+
+    public static boolean isColliding(Collidable objectOne, Collidable objectTwo) {
+        return COLLISION_TESTS[objectOne.getShape().getKind().ordinal()][objectTwo.getShape().getKind().ordinal()]
+                .isColliding(objectOne, objectTwo);
+    }
+
+    // Returns the angle from the first object to the surface of the second object it collides with.
+    public static double getCollisionAngle(Collidable objectOne, Collidable objectTwo) {
+        return COLLISION_ANGLE_TESTS[objectOne.getShape().getKind().ordinal()][objectTwo.getShape().getKind().ordinal()]
+                .getCollisionAngle(objectOne, objectTwo);
+    }
+
+    private static boolean isCircleCollidingWithCircle(Collidable circleOne, Collidable circleTwo) {
+        double collisionDistance = ((Circle) circleOne.getShape()).getRadius() + ((Circle) circleTwo.getShape()).getRadius();
+        double actualDistance = Point2D.distance(
+                circleOne.getPosX(), circleOne.getPosY(), circleTwo.getPosX(), circleTwo.getPosY()
+        );
+        return actualDistance <= collisionDistance;
+    }
+
+    private static boolean isSquareCollidingWithSquare(Collidable squareOne, Collidable squareTwo) {
+        double xDistance = xDistanceToPoint(squareOne.getPosX(), squareTwo.getPosX());
+        double yDistance = yDistanceToPoint(squareOne.getPosY(), squareTwo.getPosY());
+        double xyMinDistance = (((Square) squareOne.getShape()).getSideLength()
+                + ((Square) squareTwo.getShape()).getSideLength()) / 2.0;
+        return xDistance <= xyMinDistance && yDistance <= xyMinDistance;
+    }
+
+    private static boolean isCircleCollidingWithSquare(Collidable circleObject, Collidable squareObject) {
+        Circle circle = (Circle) circleObject.getShape();
+        Square square = (Square) squareObject.getShape();
+        double circleX = circleObject.getPosX();
+        double circleY = circleObject.getPosY();
+        double xDistance = xDistanceToPoint(circleX, squareObject.getPosX());
+        double yDistance = yDistanceToPoint(circleY, squareObject.getPosY());
+        double xyMinDistance = circle.getRadius() + square.getSideLength() / 2.0;
+        double squareHalfWidth = square.getSideLength() / 2.0;
+        double squareXLeft = squareObject.getPosX() - squareHalfWidth;
+        double squareXRight = squareObject.getPosX() + squareHalfWidth;
+        double squareYTop = squareObject.getPosY() - squareHalfWidth;
+        double squareYBottom = squareObject.getPosY() + squareHalfWidth;
+        if (circleX >= squareXLeft && circleX <= squareXRight && yDistance <= xyMinDistance) {
+            return true;
+        }
+        if (circleY >= squareYTop && circleY <= squareYBottom && xDistance <= xyMinDistance) {
+            return true;
+        }
+        return Point2D.distance(squareXLeft, squareYTop, circleX, circleY) <= circle.getRadius()
+                || Point2D.distance(squareXRight, squareYTop, circleX, circleY) <= circle.getRadius()
+                || Point2D.distance(squareXLeft, squareYBottom, circleX, circleY) <= circle.getRadius()
+                || Point2D.distance(squareXRight, squareYBottom, circleX, circleY) <= circle.getRadius();
+    }
+
+    private static boolean isCircleCollidingWithLine(Collidable circleObject, Collidable lineObject) {
+        Line line = (Line) lineObject.getShape();
+        double radius = ((Circle) circleObject.getShape()).getRadius();
+        double lineX = lineObject.getPosX();
+        double lineY = lineObject.getPosY();
+        double circleX = circleObject.getPosX();
+        double circleY = circleObject.getPosY();
+        double distance = Point2D.distance(lineX, lineY, circleX, circleY);
+        double secondPointX = lineX + Math.cos(line.getAngle().get()) * line.getLength();
+        double secondPointY = lineY + Math.sin(line.getAngle().get()) * line.getLength();
+        double secondPointDistance = Point2D.distance(secondPointX, secondPointY, circleX, circleY);
+        if (distance < radius || secondPointDistance < radius) {
+            return true;
+        }
+        double angleToCircle = angleValueToPoint(lineX, lineY, circleX, circleY);
+        double angleBetween = CircleAngle.smallerAngleBetween(angleToCircle, line.getAngle().get());
+        if (angleBetween > CircleAngle.DEGREE_90.get()) {
+            return false;
+        }
+        if (distance > line.getLength() / Math.cos(angleBetween)) {
+            return false;
+        }
+        double centerToLineDistance = Math.sin(angleBetween) * distance;
+        return centerToLineDistance < radius;
+    }
+
+    private static boolean isSquareCollidingWithLine(Collidable squareObject, Collidable lineObject) {
+        Line line = (Line) lineObject.getShape();
+        double xyMinDistance = ((Square) squareObject.getShape()).getSideLength() / 2.0;
+        double lineX = lineObject.getPosX();
+        double lineY = lineObject.getPosY();
+        double squareX = squareObject.getPosX();
+        double squareY = squareObject.getPosY();
+        double xDistanceFirstPoint = xDistanceToPoint(lineX, squareX);
+        double yDistanceFirstPoint = yDistanceToPoint(lineY, squareY);
+        double secondPointX = lineX + Math.cos(line.getAngle().get()) * line.getLength();
+        double secondPointY = lineY + Math.sin(line.getAngle().get()) * line.getLength();
+        double xDistanceSecondPoint = xDistanceToPoint(secondPointX, squareX);
+        double yDistanceSecondPoint = yDistanceToPoint(secondPointY, squareY);
+        if (xDistanceFirstPoint < xyMinDistance && yDistanceFirstPoint < xyMinDistance
+                || xDistanceSecondPoint < xyMinDistance && yDistanceSecondPoint < xyMinDistance) {
+            return true;
+        }
+        double angleToSquare = angleValueToPoint(lineX, lineY, squareX, squareY);
+        double angleBetween = CircleAngle.smallerAngleBetween(angleToSquare, line.getAngle().get());
+        if (angleBetween > CircleAngle.DEGREE_90.get()) {
+            return false;
+        }
+        double distance = Point2D.distance(lineX, lineY, squareX, squareY);
+        if (distance > line.getLength() / Math.cos(angleBetween)) {
+            return false;
+        }
+        double centerToLineDistance = Math.sin(angleBetween) * distance;
+        double angle45Offset = line.getAngle().get() % CircleAngle.DEGREE_45.get();
+        if (((int) (line.getAngle().get() / CircleAngle.DEGREE_45.get())) % 2 == 0) {
+            angle45Offset = CircleAngle.DEGREE_45.get() - angle45Offset;
+        }
+        double minCenterToLineDistance = Math.cos(angle45Offset) * Math.sqrt(2) * xyMinDistance;
+        return centerToLineDistance < minCenterToLineDistance;
+    }
+
+    private static double getCircleCircleAngle(Collidable circleOne, Collidable circleTwo) {
+        return angleValueToPoint(circleOne.getPosX(), circleOne.getPosY(), circleTwo.getPosX(), circleTwo.getPosY());
+    }
+
+    private static double getSquareSquareAngle(Collidable squareOne, Collidable squareTwo) {
+        double angleToSquareTwo = angleValueToPoint(
+                squareOne.getPosX(), squareOne.getPosY(), squareTwo.getPosX(), squareTwo.getPosY()
+        );
+        if (CircleAngle.isBetweenOrEqual(angleToSquareTwo, CircleAngle.DEGREE_45.get(), CircleAngle.DEGREE_135.get())) {
+            return CircleAngle.DEGREE_90.get();
+        } else if (CircleAngle.isBetween(angleToSquareTwo, CircleAngle.DEGREE_135.get(), CircleAngle.DEGREE_225.get())) {
+            return CircleAngle.DEGREE_180.get();
+        } else if (CircleAngle.isBetweenOrEqual(angleToSquareTwo, CircleAngle.DEGREE_225.get(), CircleAngle.DEGREE_315.get())) {
+            return CircleAngle.DEGREE_270.get();
+        } else {
+            return CircleAngle.DEGREE_0.get();
+        }
+    }
+
+    private static double getCircleSquareAngle(Collidable circleObject, Collidable squareObject) {
+        double squareHalfWidth = ((Square) squareObject.getShape()).getSideLength() / 2.0;
+        double circleX = circleObject.getPosX();
+        double circleY = circleObject.getPosY();
+        double squareXLeft = squareObject.getPosX() - squareHalfWidth;
+        double squareXRight = squareObject.getPosX() + squareHalfWidth;
+        double squareYTop = squareObject.getPosY() - squareHalfWidth;
+        double squareYBottom = squareObject.getPosY() + squareHalfWidth;
+        double angleToSquare = angleValueToPoint(circleX, circleY, squareObject.getPosX(), squareObject.getPosY());
+        if (CircleAngle.isBetweenOrEqual(angleToSquare, CircleAngle.DEGREE_45.get(), CircleAngle.DEGREE_135.get())) {
+            if (circleX < squareXLeft) {
+                return angleValueToPoint(circleX, circleY, squareXLeft, squareYTop);
+            } else if (circleX > squareXRight) {
+                return angleValueToPoint(circleX, circleY, squareXRight, squareYTop);
+            } else {
+                return CircleAngle.DEGREE_90.get();
+            }
+        } else if (CircleAngle.isBetween(angleToSquare, CircleAngle.DEGREE_135.get(), CircleAngle.DEGREE_225.get())) {
+            if (circleY < squareYTop) {
+                return angleValueToPoint(circleX, circleY, squareXRight, squareYTop);
+            } else if (circleY > squareYBottom) {
+                return angleValueToPoint(circleX, circleY, squareXRight, squareYBottom);
+            } else {
+                return CircleAngle.DEGREE_180.get();
+            }
+        } else if (CircleAngle.isBetweenOrEqual(angleToSquare, CircleAngle.DEGREE_225.get(), CircleAngle.DEGREE_315.get())) {
+            if (circleX < squareXLeft) {
+                return angleValueToPoint(circleX, circleY, squareXLeft, squareYBottom);
+            } else if (circleX > squareXRight) {
+                return angleValueToPoint(circleX, circleY, squareXRight, squareYBottom);
+            } else {
+                return CircleAngle.DEGREE_270.get();
+            }
+        } else {
+            if (circleY < squareYTop) {
+                return angleValueToPoint(circleX, circleY, squareXLeft, squareYTop);
+            } else if (circleY > squareYBottom) {
+                return angleValueToPoint(circleX, circleY, squareXLeft, squareYBottom);
+            } else {
+                return CircleAngle.DEGREE_0.get();
+            }
+        }
+    }
+
+    // Angle from the object to the side of the line it is on.
+    private static double getAngleToLine(Collidable otherObject, Collidable lineObject) {
+        double lineAngle = ((Line) lineObject.getShape()).getAngle().get();
+        double angleToObject = angleValueToPoint(
+                lineObject.getPosX(), lineObject.getPosY(), otherObject.getPosX(), otherObject.getPosY()
+        );
+        if (CircleAngle.isBetweenOrEqual(angleToObject, lineAngle, CircleAngle.oppositeAngle(lineAngle))) {
+            return CircleAngle.subtract(lineAngle, CircleAngle.DEGREE_90.get());
+        } else {
+            return CircleAngle.add(lineAngle, CircleAngle.DEGREE_90.get());
+        }
+    }
+
+}
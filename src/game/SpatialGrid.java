@@ -0,0 +1,231 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import static game.GameConstants.*;
+
+import game.shapes.GameShape;
+import game.shapes.ShapeKind;
+import game.shapes.Square;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.List;
+
+public class SpatialGrid {
+
+    // Initial number of cell entries reserved per object, enough for an object covering 2x2 cells.
+    private static final int ENTRIES_PER_OBJECT = 4;
+
+    private final double width;
+    private final double height;
+    private double cellSize;
+    private int columns;
+    private int rows;
+    private final Rectangle2D.Double bounds = new Rectangle2D.Double();
+
+    // The objects of all cells are stored one cell after another in one array, so clustering
+    // objects don't make single cells grow. The entries of a cell start at cellStarts[cell].
+    // The arrays keep their length when the cells get larger again.
+    private int[] cellCounts = new int[0];
+    private int[] cellStarts = new int[1];
+    private int[] cellFills = new int[0];
+    private int[] cellEntries = new int[0];
+    private int numberOfEntries;
+    private int numberOfObjects;
+    private boolean cellsFilled;
+
+    // Cell range of every inserted object, addressed by the index the object was inserted with.
+    private int[] minColumns = new int[0];
+    private int[] maxColumns = new int[0];
+    private int[] minRows = new int[0];
+    private int[] maxRows = new int[0];
+    private boolean[] inserted = new boolean[0];
+
+    private int[] visitStamps = new int[0];
+    private int visitStamp;
+    private int[] candidates = new int[0];
+    private int candidateCount;
+
+    public SpatialGrid(double width, double height, double cellSize) {
+        this.width = width;
+        this.height = height;
+        setCellSize(cellSize);
+    }
+
+    // With a fixed cell size the cells fill up when many small objects crowd the field, so the
+    // cells get smaller with the number of objects. They never get smaller than the largest
+    // circle or square, which then still covers at most 2x2 cells. Lines cover a row of cells
+    // at any size. The cell size only changes the candidates, never which objects collide.
+    public void adaptCellSize(List<GameObject> objects) {
+        double largestObjectSize = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            GameShape shape = ((Collidable) objects.get(i)).getShape();
+            if (shape.getKind() != ShapeKind.LINE) {
+                largestObjectSize = Math.max(largestObjectSize, getGridSize(shape));
+            }
+        }
+        double crowdedCellSize = Math.sqrt(width * height * COLLISION_GRID_OBJECTS_PER_CELL
+                / Math.max(objects.size(), 1));
+        double newCellSize = Math.ceil(Math.max(
+                Math.min(crowdedCellSize, COLLISION_GRID_MAX_CELL_SIZE),
+                largestObjectSize + 2 * COLLISION_GRID_MARGIN
+        ));
+        if (newCellSize != cellSize) {
+            setCellSize(newCellSize);
+        }
+    }
+
+    private void setCellSize(double cellSize) {
+        this.cellSize = cellSize;
+        columns = Math.max(1, (int) Math.ceil(width / cellSize));
+        rows = Math.max(1, (int) Math.ceil(height / cellSize));
+        if (cellCounts.length < columns * rows) {
+            cellCounts = new int[columns * rows];
+            cellStarts = new int[columns * rows + 1];
+            cellFills = new int[columns * rows];
+        }
+        cellsFilled = false;
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    public void clear(int numberOfObjects) {
+        this.numberOfObjects = numberOfObjects;
+        numberOfEntries = 0;
+        cellsFilled = false;
+        Arrays.fill(cellCounts, 0, columns * rows, 0);
+        if (inserted.length < numberOfObjects) {
+            int newLength = Math.max(numberOfObjects, inserted.length * 2);
+            minColumns = new int[newLength];
+            maxColumns = new int[newLength];
+            minRows = new int[newLength];
+            maxRows = new int[newLength];
+            inserted = new boolean[newLength];
+            visitStamps = new int[newLength];
+            candidates = new int[newLength];
+            visitStamp = 0;
+        } else {
+            Arrays.fill(inserted, 0, numberOfObjects, false);
+        }
+        if (cellEntries.length < numberOfObjects * ENTRIES_PER_OBJECT) {
+            cellEntries = new int[numberOfObjects * ENTRIES_PER_OBJECT];
+        }
+    }
+
+    public void insert(int index, Collidable object) {
+        GameShape shape = object.getShape();
+        shape.setBounds(bounds, object.getPosX(), object.getPosY());
+        double margin = COLLISION_GRID_MARGIN;
+        if (shape instanceof Square square) {
+            // The line-square test works with the extent of the rotated square, so the square
+            // is registered with its circumscribed circle.
+            margin += (getGridSize(square) - square.getSideLength()) / 2.0;
+        }
+        minColumns[index] = toColumn(bounds.getMinX() - margin);
+        maxColumns[index] = toColumn(bounds.getMaxX() + margin);
+        minRows[index] = toRow(bounds.getMinY() - margin);
+        maxRows[index] = toRow(bounds.getMaxY() + margin);
+        inserted[index] = true;
+        for (int row = minRows[index]; row <= maxRows[index]; row++) {
+            for (int column = minColumns[index]; column <= maxColumns[index]; column++) {
+                cellCounts[row * columns + column]++;
+                numberOfEntries++;
+            }
+        }
+        cellsFilled = false;
+    }
+
+    // Collects all objects sharing at least one cell with the object at the given index.
+    // The candidates are sorted by index, so they are visited in the order they were inserted.
+    public int findCandidates(int index) {
+        candidateCount = 0;
+        if (!inserted[index]) {
+            return 0;
+        }
+        if (!cellsFilled) {
+            fillCells();
+        }
+        visitStamp++;
+        if (visitStamp == 0) {
+            Arrays.fill(visitStamps, 0);
+            visitStamp = 1;
+        }
+        visitStamps[index] = visitStamp;
+        for (int row = minRows[index]; row <= maxRows[index]; row++) {
+            for (int column = minColumns[index]; column <= maxColumns[index]; column++) {
+                int cell = row * columns + column;
+                for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+                    int otherIndex = cellEntries[i];
+                    if (visitStamps[otherIndex] != visitStamp) {
+                        visitStamps[otherIndex] = visitStamp;
+                        candidates[candidateCount++] = otherIndex;
+                    }
+                }
+            }
+        }
+        Arrays.sort(candidates, 0, candidateCount);
+        return candidateCount;
+    }
+
+    public int getCandidate(int position) {
+        return candidates[position];
+    }
+
+    // Writes the inserted objects into their cells, in index order within every cell.
+    private void fillCells() {
+        if (cellEntries.length < numberOfEntries) {
+            cellEntries = new int[Math.max(numberOfEntries, cellEntries.length * 2)];
+        }
+        cellStarts[0] = 0;
+        for (int cell = 0; cell < columns * rows; cell++) {
+            cellStarts[cell + 1] = cellStarts[cell] + cellCounts[cell];
+            cellFills[cell] = cellStarts[cell];
+        }
+        for (int index = 0; index < numberOfObjects; index++) {
+            if (!inserted[index]) {
+                continue;
+            }
+            for (int row = minRows[index]; row <= maxRows[index]; row++) {
+                for (int column = minColumns[index]; column <= maxColumns[index]; column++) {
+                    cellEntries[cellFills[row * columns + column]++] = index;
+                }
+            }
+        }
+        cellsFilled = true;
+    }
+
+    private static double getGridSize(GameShape shape) {
+        if (shape instanceof Square square) {
+            return square.getSideLength() * Math.sqrt(2);
+        }
+        return shape.getSize();
+    }
+
+    private int toColumn(double posX) {
+        return Math.min(Math.max((int) Math.floor(posX / cellSize), 0), columns - 1);
+    }
+
+    private int toRow(double posY) {
+        return Math.min(Math.max((int) Math.floor(posY / cellSize), 0), rows - 1);
+    }
+
+}
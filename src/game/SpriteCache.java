@@ -0,0 +1,87 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Keeps pre-rendered images of the looks of game objects. Every look is rendered for a few
+// sub-pixel offsets, so moving objects don't jump from pixel to pixel.
+public final class SpriteCache {
+
+    private static final int SUBPIXEL_STEPS = 2;
+    private static final int MAX_LOOKS = 1024;
+    private static final int MARGIN = 1;
+
+    // The least recently drawn look is dropped when there are too many. Only one thread paints
+    // the game field, the event dispatch thread or the game loop with active rendering, so the
+    // cache isn't locked.
+    private static final Map<Object, BufferedImage[]> SPRITES = new LinkedHashMap<>(MAX_LOOKS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, BufferedImage[]> eldest) {
+            return size() > MAX_LOOKS;
+        }
+    };
+
+    private SpriteCache() {
+    }
+
+    public static void draw(Graphics2D g, SpriteDrawable object, double centerX, double centerY) {
+        double radius = object.getSpriteRadius();
+        double left = centerX - radius;
+        double top = centerY - radius;
+        int pixelX = (int) Math.floor(left);
+        int pixelY = (int) Math.floor(top);
+        int stepX = Math.min((int) ((left - pixelX) * SUBPIXEL_STEPS), SUBPIXEL_STEPS - 1);
+        int stepY = Math.min((int) ((top - pixelY) * SUBPIXEL_STEPS), SUBPIXEL_STEPS - 1);
+        g.drawImage(getSprite(g, object, stepX, stepY), pixelX - MARGIN, pixelY - MARGIN, null);
+    }
+
+    private static BufferedImage getSprite(Graphics2D g, SpriteDrawable object, int stepX, int stepY) {
+        BufferedImage[] sprites = SPRITES.computeIfAbsent(
+                object.getSpriteKey(),
+                key -> new BufferedImage[SUBPIXEL_STEPS * SUBPIXEL_STEPS]
+        );
+        int index = stepY * SUBPIXEL_STEPS + stepX;
+        if (sprites[index] == null) {
+            sprites[index] = renderSprite(
+                    g,
+                    object,
+                    (double) stepX / SUBPIXEL_STEPS,
+                    (double) stepY / SUBPIXEL_STEPS
+            );
+        }
+        return sprites[index];
+    }
+
+    private static BufferedImage renderSprite(Graphics2D g, SpriteDrawable object, double offsetX, double offsetY) {
+        double radius = object.getSpriteRadius();
+        int size = (int) Math.ceil(radius * 2) + 2 * MARGIN + 1;
+        BufferedImage sprite = g.getDeviceConfiguration().createCompatibleImage(size, size, Transparency.TRANSLUCENT);
+        Graphics2D spriteGraphics = sprite.createGraphics();
+        spriteGraphics.setRenderingHints(g.getRenderingHints());
+        object.paintSprite(spriteGraphics, MARGIN + radius + offsetX, MARGIN + radius + offsetY);
+        spriteGraphics.dispose();
+        return sprite;
+    }
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import java.awt.Graphics2D;
+
+// Objects whose look only depends on a few values, so it can be drawn once and reused.
+public interface SpriteDrawable {
+
+	// Objects with equal keys must look the same.
+	Object getSpriteKey();
+
+	// Half of the width and height of the look.
+	double getSpriteRadius();
+
+	void paintSprite(Graphics2D g, double centerX, double centerY);
+
+}
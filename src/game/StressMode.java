@@ -0,0 +1,67 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import game.animations.AnimationFactory;
+import game.animations.AnimationPool;
+
+public class StressMode {
+
+    private static final int[] NUMBERS_OF_BALLS = {50, 100, 500, 1000, 2000, 5000};
+    private static final int WARMUP_TICKS = 200;
+    private static final int MEASURED_TICKS = 500;
+
+    public static void run() {
+        GameSimulation simulation = new GameSimulation(800, 400, new GameEventListener() {});
+        for (int numberOfBalls : NUMBERS_OF_BALLS) {
+            simulation.setupStressTest(numberOfBalls);
+            for (int i = 0; i < WARMUP_TICKS; i++) {
+                simulation.step();
+            }
+            int numberOfObjects = simulation.getNumberOfGameObjects();
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_TICKS; i++) {
+                simulation.step();
+            }
+            double tickNanos = (double) (System.nanoTime() - start) / MEASURED_TICKS;
+            System.out.printf(
+                    "%5d Kugeln: %8.3f ms pro Tick, %6.1f ns pro Objekt, Gitterzellen %2.0f px%n",
+                    numberOfBalls,
+                    tickNanos / 1_000_000.0,
+                    tickNanos / numberOfObjects,
+                    simulation.getCollisionGridCellSize()
+            );
+        }
+        AnimationFactory animationFactory = simulation.getAnimationFactory();
+        printPool("Zerstoerung", animationFactory.getDestroyAnimationPool());
+        printPool("Erscheinen", animationFactory.getSpawnAnimationPool());
+        printPool("Partikel", animationFactory.getParticlePool());
+    }
+
+    private static void printPool(String name, AnimationPool<?> pool) {
+        System.out.printf(
+                "Pool %-12s %8d Anfragen, %5.1f %% wiederverwendet, %4d frei%n",
+                name,
+                pool.getRequests(),
+                pool.getHitRate() * 100,
+                pool.getSize()
+        );
+    }
+
+}
@@ -0,0 +1,245 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game;
+
+import game.animations.AnimationFactory;
+import game.animations.AnimationPool;
+
+import java.beans.ConstructorProperties;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+// Measures how long the phases of every game tick and every painted frame take. A phase costs
+// one System.nanoTime call, so the profiler always runs and is only read through JMX.
+public class TickProfiler implements TickProfilerMXBean {
+
+    private static final TickProfiler INSTANCE = new TickProfiler();
+    private static final String OBJECT_NAME = "game:type=TickProfiler";
+
+    public enum Phase {
+        SPAWN,
+        MOVE_PLAYER,
+        PLAYER_COLLISION,
+        MOVE_AND_ANIMATE,
+        OBJECT_COLLISION,
+        REMOVE_MARKED,
+        TICK,
+        SOUNDS,
+        SNAPSHOT,
+        PAINT
+    }
+
+    public static TickProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    private final PhaseHistogram[] histograms = new PhaseHistogram[Phase.values().length];
+    private final AtomicLong missedTicks = new AtomicLong();
+    private final AtomicLong overruns = new AtomicLong();
+    private volatile RenderSnapshot snapshot;
+    private volatile AnimationFactory animationFactory;
+
+    private TickProfiler() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new PhaseHistogram();
+        }
+    }
+
+    public void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            System.out.println("Der Profiler konnte nicht fuer JMX angemeldet werden.");
+            System.out.println(e.getMessage());
+        }
+    }
+
+    public long start() {
+        return System.nanoTime();
+    }
+
+    // Records the time since the start of the phase and returns the start of the next one.
+    // A phase is always recorded by the same thread.
+    public long record(Phase phase, long startNanos) {
+        long now = System.nanoTime();
+        histograms[phase.ordinal()].record(now - startNanos);
+        return now;
+    }
+
+    public void addMissedTicks(long ticks) {
+        missedTicks.addAndGet(ticks);
+    }
+
+    public void addOverruns(long loopPasses) {
+        overruns.addAndGet(loopPasses);
+    }
+
+    // The objects are only counted when someone asks, from the last published snapshot. The
+    // game loop may refill it meanwhile, then the counts mix two ticks.
+    public void setSnapshot(RenderSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    // The pools of the running game, their numbers are read when someone asks.
+    public void setAnimationFactory(AnimationFactory animationFactory) {
+        this.animationFactory = animationFactory;
+    }
+
+    @Override
+    public Map<String, PhaseStatistics> getPhases() {
+        Map<String, PhaseStatistics> phases = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            PhaseHistogram histogram = histograms[phase.ordinal()];
+            phases.put(phase.name(), new PhaseStatistics(
+                    histogram.getCount(),
+                    histogram.getPercentile(50),
+                    histogram.getPercentile(99),
+                    histogram.getMax()
+            ));
+        }
+        return phases;
+    }
+
+    // Reads the durations of a phase recorded since the last read without creating any objects,
+    // for live views inside the game. The caller keeps the counts of the last read.
+    public long readInterval(Phase phase, long[] previousCounts, long[] intervalCounts) {
+        return histograms[phase.ordinal()].readInterval(previousCounts, intervalCounts);
+    }
+
+    @Override
+    public Map<String, Integer> getObjectCounts() {
+        Map<String, Integer> objectCounts = new TreeMap<>();
+        RenderSnapshot currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+            return objectCounts;
+        }
+        int numberOfGameObjects = currentSnapshot.getNumberOfGameObjects();
+        for (int i = 0; i < numberOfGameObjects; i++) {
+            objectCounts.merge(currentSnapshot.getGameObject(i).getClass().getSimpleName(), 1, Integer::sum);
+        }
+        return objectCounts;
+    }
+
+    @Override
+    public Map<String, PoolStatistics> getAnimationPools() {
+        Map<String, PoolStatistics> pools = new LinkedHashMap<>();
+        AnimationFactory currentFactory = animationFactory;
+        if (currentFactory == null) {
+            return pools;
+        }
+        pools.put("DestroyAnimation", getPoolStatistics(currentFactory.getDestroyAnimationPool()));
+        pools.put("SpawnAnimation", getPoolStatistics(currentFactory.getSpawnAnimationPool()));
+        pools.put("ParticleAnimation", getPoolStatistics(currentFactory.getParticlePool()));
+        return pools;
+    }
+
+    private static PoolStatistics getPoolStatistics(AnimationPool<?> pool) {
+        return new PoolStatistics(pool.getRequests(), pool.getHitRate(), pool.getSize());
+    }
+
+    @Override
+    public long getTicks() {
+        return histograms[Phase.TICK.ordinal()].getCount();
+    }
+
+    @Override
+    public long getMissedTicks() {
+        return missedTicks.get();
+    }
+
+    @Override
+    public long getOverruns() {
+        return overruns.get();
+    }
+
+    @Override
+    public void reset() {
+        for (PhaseHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        missedTicks.set(0);
+        overruns.set(0);
+    }
+
+    public static class PhaseStatistics {
+
+        private final long count;
+        private final long p50Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+
+        @ConstructorProperties({"count", "p50Nanos", "p99Nanos", "maxNanos"})
+        public PhaseStatistics(long count, long p50Nanos, long p99Nanos, long maxNanos) {
+            this.count = count;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+    }
+
+    public static class PoolStatistics {
+
+        private final long requests;
+        private final double hitRate;
+        private final int size;
+
+        @ConstructorProperties({"requests", "hitRate", "size"})
+        public PoolStatistics(long requests, double hitRate, int size) {
+            this.requests = requests;
+            this.hitRate = hitRate;
+            this.size = size;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public double getHitRate() {
+            return hitRate;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+    }
+
+}
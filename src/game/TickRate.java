@@ -0,0 +1,79 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import static game.GameConstants.*;
+
+import java.util.concurrent.TimeUnit;
+
+// All speeds, durations and delays in GameConstants are given per game tick of GAME_TICK_LENGTH_MS.
+// At a different tick rate they are converted, so the game runs equally fast at every tick rate and
+// only the motion gets finer or coarser. Set once at startup, before the game is created.
+public final class TickRate {
+
+	private static final long REFERENCE_TICK_LENGTH_NANOS = TimeUnit.MILLISECONDS.toNanos(GAME_TICK_LENGTH_MS);
+
+	private static volatile TickRate current = new TickRate((int) (TimeUnit.SECONDS.toNanos(1) / REFERENCE_TICK_LENGTH_NANOS));
+
+	private final int ticksPerSecond;
+	private final long tickLengthNanos;
+	private final double tickScale;
+
+	public TickRate(int ticksPerSecond) {
+		this.ticksPerSecond = ticksPerSecond;
+		tickLengthNanos = TimeUnit.SECONDS.toNanos(1) / ticksPerSecond;
+		tickScale = (double) tickLengthNanos / REFERENCE_TICK_LENGTH_NANOS;
+	}
+
+	public static TickRate get() {
+		return current;
+	}
+
+	public static void set(TickRate tickRate) {
+		current = tickRate;
+	}
+
+	public static boolean isSupported(int ticksPerSecond) {
+		return ticksPerSecond >= GAME_MIN_TICK_RATE && ticksPerSecond <= GAME_MAX_TICK_RATE;
+	}
+
+	public int getTicksPerSecond() {
+		return ticksPerSecond;
+	}
+
+	public long getTickLengthNanos() {
+		return tickLengthNanos;
+	}
+
+	// How far objects move and animations advance in one tick, compared to one tick of
+	// GAME_TICK_LENGTH_MS.
+	public double getTickScale() {
+		return tickScale;
+	}
+
+	// Converts a number of ticks of GAME_TICK_LENGTH_MS into ticks of this rate. A duration never
+	// gets shorter than one tick.
+	public int toTicks(int gameTicks) {
+		if (gameTicks <= 0) {
+			return gameTicks;
+		}
+		return Math.max(1, (int) Math.round(gameTicks / tickScale));
+	}
+
+}
@@ -18,17 +18,19 @@
 
 package game.animations;
 
+import game.GameEventListener;
 import game.GameObject;
-import game.GameSounds;
 import game.Animatable;
+import game.TickRate;
 
 import java.awt.*;
 
 public abstract class Animation extends GameObject implements Animatable {
 
-	protected static final GameSounds GAME_SOUNDS = GameSounds.getInstance();
+	private static final int NO_SOUND = 0;
 	
 	protected boolean isFinished = false;
+	private int pendingSound = NO_SOUND;
 	protected double speed;
 	protected int animationTickCounter;
 
@@ -39,20 +41,53 @@ public abstract class Animation extends GameObject implements Animatable {
 	public Animation(double posX, double posY, double speed, Color color, int gameTickDelay) {
 		super(posX, posY, color);
 		this.speed = speed;
-		this.animationTickCounter = -gameTickDelay;
+		this.animationTickCounter = -TickRate.get().toTicks(gameTickDelay);
+	}
+	
+	// Brings a pooled animation back to the state of a newly created one.
+	protected void reset(double posX, double posY, double speed, Color color, int gameTickDelay) {
+		position.setLocation(posX, posY);
+		this.color = color;
+		this.speed = speed;
+		animationTickCounter = -TickRate.get().toTicks(gameTickDelay);
+		isFinished = false;
+		pendingSound = NO_SOUND;
+		markedForRemoval = false;
 	}
 	
 	public abstract void animate(double speedChangeFactor);
 
-	protected void tickAndRunIfAlive(Runnable animateCode) {
-		if (isFinished || animationTickCounter++ < 0) {
-			return;
+	// Counts the tick and tells whether the animation has started and is still running.
+	protected boolean tickIfAlive() {
+		return !isFinished && animationTickCounter++ >= 0;
+	}
+
+	// Animations don't know where sounds are played, the game plays them after animating.
+	protected void playSound(int soundType) {
+		pendingSound = soundType;
+	}
+
+	public void playPendingSounds(GameEventListener eventListener) {
+		if (pendingSound != NO_SOUND) {
+			eventListener.playSound(pendingSound);
+			pendingSound = NO_SOUND;
 		}
-		animateCode.run();
 	}
 
 	public boolean isFinished() {
 		return isFinished;
 	}
 
+	public boolean isVisible() {
+		return !isFinished && animationTickCounter >= 0;
+	}
+
+	@Override
+	protected void updateSnapshot(GameObject snapshot, int buffer) {
+		super.updateSnapshot(snapshot, buffer);
+		Animation animationSnapshot = (Animation) snapshot;
+		animationSnapshot.isFinished = isFinished;
+		animationSnapshot.animationTickCounter = animationTickCounter;
+	}
+
 }
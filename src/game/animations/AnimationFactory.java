@@ -0,0 +1,75 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game.animations;
+
+import static game.GameConstants.*;
+
+import java.awt.Color;
+
+// Creates the short-lived animations of a game from pools. Every game simulation has its own
+// factory, the pools are only used by the thread running the simulation.
+public class AnimationFactory {
+
+    private static final int MAX_POOLED_DESTROY_ANIMATIONS = 64;
+    private static final int MAX_POOLED_SPAWN_ANIMATIONS = 32;
+    private static final int MAX_POOLED_PARTICLES = MAX_POOLED_SPAWN_ANIMATIONS * MAX_NUMBER_OF_PARTICLES;
+
+    private final AnimationPool<DestroyAnimation> destroyAnimations =
+            new AnimationPool<>(DestroyAnimation::new, MAX_POOLED_DESTROY_ANIMATIONS);
+    private final AnimationPool<SpawnAnimation> spawnAnimations =
+            new AnimationPool<>(SpawnAnimation::new, MAX_POOLED_SPAWN_ANIMATIONS);
+    private final AnimationPool<ParticleAnimation> particles =
+            new AnimationPool<>(ParticleAnimation::new, MAX_POOLED_PARTICLES);
+
+    public DestroyAnimation createDestroyAnimation(double posX, double posY, double size, double speed, Color color, int gameTickDelay) {
+        DestroyAnimation animation = destroyAnimations.obtain();
+        animation.reset(posX, posY, size, speed, color, gameTickDelay);
+        return animation;
+    }
+
+    public SpawnAnimation createSpawnAnimation(double posX, double posY, double size, double speed, Color color, int gameTickDelay) {
+        SpawnAnimation animation = spawnAnimations.obtain();
+        animation.reset(posX, posY, size, speed, color, gameTickDelay, particles);
+        return animation;
+    }
+
+    // The animation must not be used by the game anymore. Animations that don't come from a
+    // pool are left to the garbage collector.
+    public void release(Animation animation) {
+        if (animation instanceof DestroyAnimation destroyAnimation) {
+            destroyAnimations.release(destroyAnimation);
+        } else if (animation instanceof SpawnAnimation spawnAnimation) {
+            spawnAnimation.releaseParticles(particles);
+            spawnAnimations.release(spawnAnimation);
+        }
+    }
+
+    public AnimationPool<DestroyAnimation> getDestroyAnimationPool() {
+        return destroyAnimations;
+    }
+
+    public AnimationPool<SpawnAnimation> getSpawnAnimationPool() {
+        return spawnAnimations;
+    }
+
+    public AnimationPool<ParticleAnimation> getParticlePool() {
+        return particles;
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game.animations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Keeps finished animations so new ones can reuse them. The returned animations still have
+// their old state and have to be reset by the caller.
+public class AnimationPool<T extends Animation> {
+
+    private final Supplier<T> creator;
+    private final int maxSize;
+    private final List<T> freeAnimations;
+    // Only changed by the thread of the simulation, the profiler reads them from other threads.
+    private volatile long requests;
+    private volatile long hits;
+    private volatile int size;
+
+    public AnimationPool(Supplier<T> creator, int maxSize) {
+        this.creator = creator;
+        this.maxSize = maxSize;
+        freeAnimations = new ArrayList<>(maxSize);
+    }
+
+    public T obtain() {
+        requests++;
+        if (freeAnimations.isEmpty()) {
+            return creator.get();
+        }
+        hits++;
+        T animation = freeAnimations.remove(freeAnimations.size() - 1);
+        size = freeAnimations.size();
+        return animation;
+    }
+
+    public void release(T animation) {
+        if (freeAnimations.size() < maxSize) {
+            freeAnimations.add(animation);
+            size = freeAnimations.size();
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public double getHitRate() {
+        // Hits first, the requests are counted before them.
+        long currentHits = hits;
+        long currentRequests = requests;
+        return currentRequests == 0 ? 0 : (double) currentHits / currentRequests;
+    }
+
+}
@@ -28,10 +28,13 @@ public class DestroyAnimation extends LineStarAnimation {
 		super(posX, posY, size, speed, color, gameTickDelay);
 	}
 	
+	DestroyAnimation() {
+	}
+	
 	@Override
 	public void animate(double speedChangeFactor) {
 		if (animationTickCounter == 0) {
-			GAME_SOUNDS.playSound(GameSounds.DESTROY_SOUND);
+			playSound(GameSounds.DESTROY_SOUND);
 		}
 		super.animate(speedChangeFactor);
 	}
@@ -31,7 +31,7 @@ public class FireworkAnimation extends LineStarAnimation {
     @Override
     public void animate(double speedChangeFactor) {
         if (animationTickCounter == 0) {
-            GAME_SOUNDS.playSound(GameSounds.FIREWORK_SOUND);
+            playSound(GameSounds.FIREWORK_SOUND);
         }
         super.animate(speedChangeFactor);
     }
@@ -22,55 +22,69 @@ import static game.GameConstants.*;
 import static game.Helpers.*;
 
 import game.GameColors;
+import game.GameEventListener;
+import game.GameObject;
+import game.TickRate;
 
 import java.awt.*;
 import java.awt.geom.Point2D;
+import java.util.Arrays;
 
+// The rockets and particles are only created when their start tick is reached, and at most
+// FIREWORKSHOW_MAX_LIVE_ELEMENTS of them are alive at the same time. When the show gets busy,
+// particles are left out first and rockets only when the limit is reached.
 public class FireworkShow extends Animation {
 
-    private final Animation[] particlesAndRockets;
+    private final Dimension gameSize;
+    private final long numberOfRockets;
+    private final long numberOfParticles;
+    private long startedRockets;
+    private long startedParticles;
+    private long nextRocketTick;
+    private RocketAnimation[] rockets = new RocketAnimation[FIREWORKSHOW_MAX_LIVE_ELEMENTS];
+    private ParticleAnimation[] particles = new ParticleAnimation[FIREWORKSHOW_MAX_LIVE_ELEMENTS];
+    private int numberOfLiveRockets;
+    private int numberOfLiveParticles;
+    private long droppedElements;
+    private final double tickScale = TickRate.get().getTickScale();
 
     public FireworkShow(int points, Dimension gameSize) {
-        int numberOfRockets = points * points / 200;
-        int numberOfParticles = numberOfRockets * 10;
-        particlesAndRockets = new Animation[numberOfRockets + numberOfParticles];
-        for (int i = 0; i < numberOfParticles; i++) {
-            particlesAndRockets[i] = getRandomParticle(i, gameSize);
-        }
-        for (int i = 0; i < numberOfRockets; i++) {
-            particlesAndRockets[numberOfParticles + i] = getRandomRocket(i, gameSize);
-        }
+        this.gameSize = gameSize;
+        numberOfRockets = (long) points * points / 200;
+        numberOfParticles = numberOfRockets * 10;
+        nextRocketTick = getRocketStartTick(0);
     }
 
-    private ParticleAnimation getRandomParticle(int numberOfParticlesExisting, Dimension gameSize) {
-        Point2D.Double position = getRandomPosition(gameSize);
-        int delay = numberOfParticlesExisting * FIREWORKSHOW_PARTICLE_DELAY;
+    private long getRocketStartTick(long rocketNumber) {
+        return rocketNumber * FIREWORKSHOW_ROCKET_DELAY + RANDOM.nextInt(FIREWORKSHOW_ROCKET_DELAY / 2);
+    }
+
+    private ParticleAnimation getRandomParticle() {
+        Point2D.Double position = getRandomPosition();
         return new ParticleAnimation(
                 position.getX(),
                 position.getY(),
                 FIREWORKSHOW_PARTICLE_RADIUS,
                 FIREWORKSHOW_PARTICLE_SPEED,
                 GameColors.getRandomPartyColor(),
-                delay
+                0
         );
     }
 
-    private RocketAnimation getRandomRocket(int numberOfRocketsExisting, Dimension gameSize) {
-        Point2D.Double position = getRandomPosition(gameSize);
+    private RocketAnimation getRandomRocket() {
+        Point2D.Double position = getRandomPosition();
         double rocketSpeed = RANDOM.nextDouble(2.0, 3.0);
-        int delay = numberOfRocketsExisting * FIREWORKSHOW_ROCKET_DELAY;
-        delay += RANDOM.nextInt(FIREWORKSHOW_ROCKET_DELAY / 2);
         return new RocketAnimation(
                 position.getX(),
                 position.getY(),
                 rocketSpeed,
                 GameColors.getRandomPartyColor(),
                 gameSize,
-                delay
+                0
         );
     }
 
-    private Point2D.Double getRandomPosition(Dimension gameSize) {
+    private Point2D.Double getRandomPosition() {
         double xPosition = RANDOM.nextDouble(
                 FIREWORK_MIN_BORDER_DISTANCE, gameSize.width - FIREWORK_MIN_BORDER_DISTANCE
         );
@@ -82,16 +96,65 @@ public class FireworkShow extends Animation {
 
     @Override
     public void animate(final double speedChangeFactor) {
-        tickAndRunIfAlive(() -> {
-            boolean finished = true;
-            for (Animation animation : particlesAndRockets) {
-                if (!animation.isFinished()) {
-                    animation.animate(speedChangeFactor);
-                    finished = false;
-                }
+        if (!tickIfAlive()) {
+            return;
+        }
+        removeFinishedElements();
+        // The delays are given in ticks of GAME_TICK_LENGTH_MS.
+        long showTick = (long) ((animationTickCounter - 1) * tickScale);
+        while (startedParticles < numberOfParticles
+                && startedParticles * FIREWORKSHOW_PARTICLE_DELAY <= showTick) {
+            startedParticles++;
+            if (getNumberOfLiveElements() < FIREWORKSHOW_MAX_LIVE_ELEMENTS_FOR_PARTICLES) {
+                particles[numberOfLiveParticles++] = getRandomParticle();
+            } else {
+                droppedElements++;
+            }
+        }
+        while (startedRockets < numberOfRockets && nextRocketTick <= showTick) {
+            startedRockets++;
+            if (getNumberOfLiveElements() < FIREWORKSHOW_MAX_LIVE_ELEMENTS) {
+                rockets[numberOfLiveRockets++] = getRandomRocket();
+            } else {
+                droppedElements++;
             }
-            isFinished = finished;
-        });
+            nextRocketTick = getRocketStartTick(startedRockets);
+        }
+        for (int i = 0; i < numberOfLiveParticles; i++) {
+            particles[i].animate(speedChangeFactor);
+        }
+        for (int i = 0; i < numberOfLiveRockets; i++) {
+            rockets[i].animate(speedChangeFactor);
+        }
+        isFinished = startedParticles == numberOfParticles && startedRockets == numberOfRockets
+                && numberOfLiveParticles == 0 && numberOfLiveRockets == 0;
+    }
+
+    private void removeFinishedElements() {
+        int liveParticles = 0;
+        for (int i = 0; i < numberOfLiveParticles; i++) {
+            if (!particles[i].isFinished()) {
+                particles[liveParticles++] = particles[i];
+            }
+        }
+        Arrays.fill(particles, liveParticles, numberOfLiveParticles, null);
+        numberOfLiveParticles = liveParticles;
+        int liveRockets = 0;
+        for (int i = 0; i < numberOfLiveRockets; i++) {
+            if (!rockets[i].isFinished()) {
+                rockets[liveRockets++] = rockets[i];
+            }
+        }
+        Arrays.fill(rockets, liveRockets, numberOfLiveRockets, null);
+        numberOfLiveRockets = liveRockets;
+    }
+
+    private int getNumberOfLiveElements() {
+        return numberOfLiveParticles + numberOfLiveRockets;
+    }
+
+    public long getDroppedElements() {
+        return droppedElements;
     }
 
     @Override
@@ -99,9 +162,53 @@ public class FireworkShow extends Animation {
         if (isFinished || animationTickCounter < 0) {
             return;
         }
-        for (Animation animation : particlesAndRockets) {
-            if (!animation.isFinished()) {
-                animation.draw(g);
+        for (int i = 0; i < numberOfLiveParticles; i++) {
+            if (!particles[i].isFinished()) {
+                particles[i].draw(g);
+            }
+        }
+        for (int i = 0; i < numberOfLiveRockets; i++) {
+            if (!rockets[i].isFinished()) {
+                rockets[i].draw(g);
+            }
+        }
+    }
+
+    @Override
+    public void playPendingSounds(GameEventListener eventListener) {
+        super.playPendingSounds(eventListener);
+        for (int i = 0; i < numberOfLiveParticles; i++) {
+            particles[i].playPendingSounds(eventListener);
+        }
+        for (int i = 0; i < numberOfLiveRockets; i++) {
+            rockets[i].playPendingSounds(eventListener);
+        }
+    }
+
+    // Only the particles and rockets that are currently visible are part of the snapshot.
+    @Override
+    protected GameObject createSnapshot() {
+        FireworkShow snapshot = (FireworkShow) super.createSnapshot();
+        snapshot.particles = new ParticleAnimation[FIREWORKSHOW_MAX_LIVE_ELEMENTS];
+        snapshot.rockets = new RocketAnimation[FIREWORKSHOW_MAX_LIVE_ELEMENTS];
+        return snapshot;
+    }
+
+    @Override
+    protected void updateSnapshot(GameObject snapshot, int buffer) {
+        super.updateSnapshot(snapshot, buffer);
+        FireworkShow showSnapshot = (FireworkShow) snapshot;
+        showSnapshot.numberOfLiveParticles = 0;
+        for (int i = 0; i < numberOfLiveParticles; i++) {
+            if (particles[i].isVisible()) {
+                showSnapshot.particles[showSnapshot.numberOfLiveParticles++] =
+                        (ParticleAnimation) particles[i].getSnapshot(buffer);
+            }
+        }
+        showSnapshot.numberOfLiveRockets = 0;
+        for (int i = 0; i < numberOfLiveRockets; i++) {
+            if (rockets[i].isVisible()) {
+                showSnapshot.rockets[showSnapshot.numberOfLiveRockets++] = (RocketAnimation) rockets[i].getSnapshot(buffer);
             }
         }
     }
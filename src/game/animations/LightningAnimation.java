@@ -24,6 +24,7 @@ import static game.Helpers.*;
 import game.CircleAngle;
 import game.DestructiveCollidable;
 import game.GameColors;
+import game.GameObject;
 import game.GameSounds;
 import game.shapes.*;
 
@@ -50,14 +51,15 @@ public class LightningAnimation extends Animation implements DestructiveCollidab
     @Override
     public void animate(double speedChangeFactor) {
         if (animationTickCounter == 0) {
-            GAME_SOUNDS.playSound(GameSounds.LIGHTNING);
+            playSound(GameSounds.LIGHTNING);
+        }
+        if (!tickIfAlive()) {
+            return;
+        }
+        currentThickness = (int) (animationTickCounter * speed * speedChangeFactor) + 1;
+        if (currentThickness > LIGHTNINGANIMATION_MAX_THICKNESS) {
+            isFinished = true;
         }
-        tickAndRunIfAlive(() -> {
-            currentThickness = (int) (animationTickCounter * speed * speedChangeFactor) + 1;
-            if (currentThickness > LIGHTNINGANIMATION_MAX_THICKNESS) {
-                isFinished = true;
-            }
-        });
     }
 
     @Override
@@ -82,7 +84,30 @@ public class LightningAnimation extends Animation implements DestructiveCollidab
 
     @Override
     public GameShape getShape() {
-        return shape.getCopy();
+        return shape;
+    }
+
+    @Override
+    protected void updateSnapshot(GameObject snapshot, int buffer) {
+        super.updateSnapshot(snapshot, buffer);
+        ((LightningAnimation) snapshot).currentThickness = currentThickness;
+    }
+
+    @Override
+    public boolean getScreenBounds(Rectangle bounds) {
+        if (isFinished || animationTickCounter < 0) {
+            bounds.setBounds(0, 0, 0, 0);
+            return true;
+        }
+        double halfThickness = currentThickness / 2.0;
+        setScreenBounds(
+                bounds,
+                Math.min(position.getX(), secondPoint.getX()) - halfThickness,
+                Math.min(position.getY(), secondPoint.getY()) - halfThickness,
+                Math.max(position.getX(), secondPoint.getX()) + halfThickness,
+                Math.max(position.getY(), secondPoint.getY()) + halfThickness
+        );
+        return true;
     }
 
 }
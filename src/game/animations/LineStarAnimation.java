@@ -20,11 +20,13 @@ package game.animations;
 
 import static game.Helpers.*;
 
+import game.GameObject;
+
 import java.awt.*;
 
 public abstract class LineStarAnimation extends Animation {
 
-    protected final double radius;
+    protected double radius;
     protected double currentRadius;
 
     public LineStarAnimation(double posX, double posY, double size, double speed, Color color, int gameTickDelay) {
@@ -33,15 +35,25 @@ public abstract class LineStarAnimation extends Animation {
         currentRadius = radius / 2.0;
     }
 
+    protected LineStarAnimation() {
+    }
+
+    void reset(double posX, double posY, double size, double speed, Color color, int gameTickDelay) {
+        reset(posX, posY, speed, color, gameTickDelay);
+        radius = size / 2.0;
+        currentRadius = radius / 2.0;
+    }
+
     @Override
     public void animate(final double speedChangeFactor) {
-        tickAndRunIfAlive(() -> {
-            currentRadius += (speed * speedChangeFactor);
-            if (currentRadius >= radius) {
-                currentRadius = radius;
-                isFinished = true;
-            }
-        });
+        if (!tickIfAlive()) {
+            return;
+        }
+        currentRadius += (speed * speedChangeFactor);
+        if (currentRadius >= radius) {
+            currentRadius = radius;
+            isFinished = true;
+        }
     }
 
     @Override
@@ -62,4 +74,28 @@ public abstract class LineStarAnimation extends Animation {
 
     protected abstract double[] getAngles();
 
+    @Override
+    protected void updateSnapshot(GameObject snapshot, int buffer) {
+        super.updateSnapshot(snapshot, buffer);
+        LineStarAnimation animationSnapshot = (LineStarAnimation) snapshot;
+        animationSnapshot.radius = radius;
+        animationSnapshot.currentRadius = currentRadius;
+    }
+
+    @Override
+    public boolean getScreenBounds(Rectangle bounds) {
+        if (isFinished || animationTickCounter < 0) {
+            bounds.setBounds(0, 0, 0, 0);
+            return true;
+        }
+        setScreenBounds(
+                bounds,
+                position.getX() - currentRadius,
+                position.getY() - currentRadius,
+                position.getX() + currentRadius,
+                position.getY() + currentRadius
+        );
+        return true;
+    }
+
 }
@@ -20,13 +20,15 @@ package game.animations;
 
 import static game.Helpers.*;
 
+import game.GameObject;
+
 import java.awt.*;
 
 public class ParticleAnimation extends Animation {
 
     private static final double START_RADIUS = 0;
     private double radius;
-    private final double maxRadius;
+    private double maxRadius;
     private boolean reverseAnimation = false;
 
     public ParticleAnimation(double posX, double posY, double radius, double speed, Color color, int gameTickDelay) {
@@ -35,23 +37,34 @@ public class ParticleAnimation extends Animation {
         this.maxRadius = radius;
     }
 
+    ParticleAnimation() {
+    }
+
+    void reset(double posX, double posY, double radius, double speed, Color color, int gameTickDelay) {
+        reset(posX, posY, speed, color, gameTickDelay);
+        this.radius = START_RADIUS;
+        maxRadius = radius;
+        reverseAnimation = false;
+    }
+
     @Override
     public void animate(final double speedChangeFactor) {
-        tickAndRunIfAlive(() -> {
-            if (reverseAnimation) {
-                radius -= speed * speedChangeFactor;
-                if (radius <= START_RADIUS) {
-                	radius = START_RADIUS;
-                    isFinished = true;
-                }
-            } else {
-                radius += speed * speedChangeFactor;
-                if (radius >= maxRadius) {
-                	radius = maxRadius;
-                    reverseAnimation = true;
-                }
+        if (!tickIfAlive()) {
+            return;
+        }
+        if (reverseAnimation) {
+            radius -= speed * speedChangeFactor;
+            if (radius <= START_RADIUS) {
+            	radius = START_RADIUS;
+                isFinished = true;
             }
-        });
+        } else {
+            radius += speed * speedChangeFactor;
+            if (radius >= maxRadius) {
+            	radius = maxRadius;
+                reverseAnimation = true;
+            }
+        }
     }
 
     @Override
@@ -68,4 +81,26 @@ public class ParticleAnimation extends Animation {
         );
     }
 
+    @Override
+    protected void updateSnapshot(GameObject snapshot, int buffer) {
+        super.updateSnapshot(snapshot, buffer);
+        ((ParticleAnimation) snapshot).radius = radius;
+    }
+
+    @Override
+    public boolean getScreenBounds(Rectangle bounds) {
+        if (isFinished || animationTickCounter < 0) {
+            bounds.setBounds(0, 0, 0, 0);
+            return true;
+        }
+        setScreenBounds(
+                bounds,
+                position.getX() - radius,
+                position.getY() - radius,
+                position.getX() + radius,
+                position.getY() + radius
+        );
+        return true;
+    }
+
 }
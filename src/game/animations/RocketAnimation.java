@@ -22,6 +22,8 @@ import static game.GameConstants.*;
 import static game.Helpers.*;
 
 import game.GameColors;
+import game.GameEventListener;
+import game.GameObject;
 import game.GameSounds;
 
 import java.awt.*;
@@ -34,7 +36,7 @@ public class RocketAnimation extends Animation {
     private double currentXPosition;
     private final double functionOneDistance;
     private boolean exploded = false;
-    private final FireworkAnimation firework;
+    private FireworkAnimation firework;
 
     private enum driftDirection {LEFT, RIGHT}
     private final driftDirection drift;
@@ -70,22 +72,23 @@ public class RocketAnimation extends Animation {
     @Override
     public void animate(final double speedChangeFactor) {
     	if (animationTickCounter == 0) {
-    		GAME_SOUNDS.playSound(GameSounds.ROCKET_SOUND);
+    		playSound(GameSounds.ROCKET_SOUND);
     	}
-        tickAndRunIfAlive(() -> {
-            if (!exploded) {
-                currentYPosition -= (speed * speedChangeFactor);
-                currentXPosition = getCurrentXPosition();
-                if (currentYPosition <= position.getY()) {
-                    currentYPosition = position.getY();
-                    exploded = true;
-                }
-            } else if (!firework.isFinished()) {
-                firework.animate(speedChangeFactor);
-            } else {
-                isFinished = true;
+        if (!tickIfAlive()) {
+            return;
+        }
+        if (!exploded) {
+            currentYPosition -= (speed * speedChangeFactor);
+            currentXPosition = getCurrentXPosition();
+            if (currentYPosition <= position.getY()) {
+                currentYPosition = position.getY();
+                exploded = true;
             }
-        });
+        } else if (!firework.isFinished()) {
+            firework.animate(speedChangeFactor);
+        } else {
+            isFinished = true;
+        }
     }
 
     @Override
@@ -107,4 +110,39 @@ public class RocketAnimation extends Animation {
 
     }
 
+    @Override
+    public void playPendingSounds(GameEventListener eventListener) {
+        super.playPendingSounds(eventListener);
+        firework.playPendingSounds(eventListener);
+    }
+
+    @Override
+    protected void updateSnapshot(GameObject snapshot, int buffer) {
+        super.updateSnapshot(snapshot, buffer);
+        RocketAnimation rocketSnapshot = (RocketAnimation) snapshot;
+        rocketSnapshot.currentXPosition = currentXPosition;
+        rocketSnapshot.currentYPosition = currentYPosition;
+        rocketSnapshot.exploded = exploded;
+        rocketSnapshot.firework = (FireworkAnimation) firework.getSnapshot(buffer);
+    }
+
+    @Override
+    public boolean getScreenBounds(Rectangle bounds) {
+        if (isFinished || animationTickCounter < 0) {
+            bounds.setBounds(0, 0, 0, 0);
+            return true;
+        }
+        if (exploded) {
+            return firework.getScreenBounds(bounds);
+        }
+        setScreenBounds(
+                bounds,
+                currentXPosition - ROCKET_RADIUS,
+                currentYPosition - ROCKET_RADIUS,
+                currentXPosition + ROCKET_RADIUS,
+                currentYPosition + ROCKET_RADIUS
+        );
+        return true;
+    }
+
 }
@@ -24,6 +24,7 @@ import static game.Helpers.*;
 import java.awt.*;
 
 import game.GameColors;
+import game.GameObject;
 import game.GameSounds;
 import game.shapes.Circle;
 import game.shapes.GameShape;
@@ -33,7 +34,7 @@ import game.DestructiveCollidable;
 public class ShockWave extends Animation implements DestructiveCollidable {
 
 	private final double maxRadius;
-    private final Circle shape;
+    private Circle shape;
 	
 	public ShockWave(double posX, double posY, double radius, double speed, int gameTickDelay) {
 		super(posX, posY, speed, GameColors.SHOCKWAVE, gameTickDelay);
@@ -44,15 +45,16 @@ public class ShockWave extends Animation implements DestructiveCollidable {
 	@Override
 	public void animate(final double speedChangeFactor) {
 		if (animationTickCounter == 0) {
-			GAME_SOUNDS.playSound(GameSounds.EXPLODE_SOUND);
+			playSound(GameSounds.EXPLODE_SOUND);
+		}
+		if (!tickIfAlive()) {
+			return;
+		}
+		setRadius(getRadius() + speed * speedChangeFactor);
+		if (getRadius() > maxRadius) {
+			setRadius(maxRadius);
+			isFinished = true;
 		}
-		tickAndRunIfAlive(() -> {
-			setRadius(getRadius() + speed * speedChangeFactor);
-			if (getRadius() > maxRadius) {
-				setRadius(maxRadius);
-				isFinished = true;
-			}
-		});
 	}
 
 	@Override
@@ -78,7 +80,36 @@ public class ShockWave extends Animation implements DestructiveCollidable {
     }
 
     public GameShape getShape() {
-        return shape.getCopy();
+        return shape;
     }
-	
+
+    @Override
+    protected GameObject createSnapshot() {
+        ShockWave snapshot = (ShockWave) super.createSnapshot();
+        snapshot.shape = shape.getCopy();
+        return snapshot;
+    }
+
+    @Override
+    protected void updateSnapshot(GameObject snapshot, int buffer) {
+        super.updateSnapshot(snapshot, buffer);
+        ((ShockWave) snapshot).setRadius(getRadius());
+    }
+
+    @Override
+    public boolean getScreenBounds(Rectangle bounds) {
+        if (isFinished || animationTickCounter < 0) {
+            bounds.setBounds(0, 0, 0, 0);
+            return true;
+        }
+        setScreenBounds(
+                bounds,
+                position.getX() - getRadius(),
+                position.getY() - getRadius(),
+                position.getX() + getRadius(),
+                position.getY() + getRadius()
+        );
+        return true;
+    }
+
 }
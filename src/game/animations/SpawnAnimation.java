@@ -21,53 +21,79 @@ package game.animations;
 import static game.GameConstants.*;
 import static game.Helpers.*;
 
-import game.CircleAngle;
 import game.GameColors;
+import game.GameObject;
 
 import java.awt.*;
 
 public class SpawnAnimation extends Animation {
 
-    private final double size;
-    private final ParticleAnimation[] particles;
+    private double size;
+    private ParticleAnimation[] particles = new ParticleAnimation[MAX_NUMBER_OF_PARTICLES];
+    private int numberOfParticles;
 
     public SpawnAnimation(double posX, double posY, double size, double speed, Color color, int gameTickDelay) {
         super(posX, posY, speed, color, gameTickDelay);
+        addRandomParticles(size, null);
+    }
+
+    SpawnAnimation() {
+    }
+
+    void reset(double posX, double posY, double size, double speed, Color color, int gameTickDelay,
+            AnimationPool<ParticleAnimation> particlePool) {
+        reset(posX, posY, speed, color, gameTickDelay);
+        addRandomParticles(size, particlePool);
+    }
+
+    void releaseParticles(AnimationPool<ParticleAnimation> particlePool) {
+        for (int i = 0; i < numberOfParticles; i++) {
+            particlePool.release(particles[i]);
+            particles[i] = null;
+        }
+        numberOfParticles = 0;
+    }
+
+    private void addRandomParticles(double size, AnimationPool<ParticleAnimation> particlePool) {
         this.size = size;
-        particles = new ParticleAnimation[RANDOM.nextInt(MIN_NUMBER_OF_PARTICLES, MAX_NUMBER_OF_PARTICLES)];
-        for (int i = 0; i < particles.length; i++) {
-            particles[i] = getRandomParticle();
+        numberOfParticles = RANDOM.nextInt(MIN_NUMBER_OF_PARTICLES, MAX_NUMBER_OF_PARTICLES);
+        for (int i = 0; i < numberOfParticles; i++) {
+            particles[i] = particlePool == null ? new ParticleAnimation() : particlePool.obtain();
+            setupRandomParticle(particles[i]);
         }
     }
 
-    private ParticleAnimation getRandomParticle() {
-        CircleAngle angle = CircleAngle.randomAngle();
+    private void setupRandomParticle(ParticleAnimation particle) {
+        double angle = RANDOM.nextDouble(Math.PI * 2);
         double particleSize = RANDOM.nextDouble(size * MAX_PARTICLE_SIZE_PERCENT);
         double distance = RANDOM.nextDouble(size / 2.0 - particleSize / 2.0);
-        double xPosition = position.getX() + Math.cos(angle.get()) * distance;
-        double yPosition = position.getY() + Math.sin(angle.get()) * distance;
-        return new ParticleAnimation(
+        double xPosition = position.getX() + Math.cos(angle) * distance;
+        double yPosition = position.getY() + Math.sin(angle) * distance;
+        Color particleColor = GameColors.getRandomDarkerOrBrighter(color);
+        particle.reset(
                 xPosition,
                 yPosition,
                 particleSize / 2.0,
                 speed,
-                GameColors.getRandomDarkerOrBrighter(color),
+                particleColor,
                 RANDOM.nextInt(MAX_PARTICLE_DELAY_GT)
         );
     }
 
     @Override
     public void animate(final double speedChangeFactor) {
-        tickAndRunIfAlive(() -> {
-            boolean finished = true;
-            for (ParticleAnimation animation : particles) {
-                if (!animation.isFinished()) {
-                    animation.animate(speedChangeFactor);
-                    finished = false;
-                }
+        if (!tickIfAlive()) {
+            return;
+        }
+        boolean finished = true;
+        for (int i = 0; i < numberOfParticles; i++) {
+            ParticleAnimation animation = particles[i];
+            if (!animation.isFinished()) {
+                animation.animate(speedChangeFactor);
+                finished = false;
             }
-            isFinished = finished;
-        });
+        }
+        isFinished = finished;
     }
 
     @Override
@@ -75,11 +101,47 @@ public class SpawnAnimation extends Animation {
         if (isFinished || animationTickCounter < 0) {
             return;
         }
-        for (ParticleAnimation animation : particles) {
+        for (int i = 0; i < numberOfParticles; i++) {
+            ParticleAnimation animation = particles[i];
             if (!animation.isFinished()) {
                 animation.draw(g);
             }
         }
     }
 
+    @Override
+    protected GameObject createSnapshot() {
+        SpawnAnimation snapshot = (SpawnAnimation) super.createSnapshot();
+        snapshot.particles = new ParticleAnimation[MAX_NUMBER_OF_PARTICLES];
+        return snapshot;
+    }
+
+    @Override
+    protected void updateSnapshot(GameObject snapshot, int buffer) {
+        super.updateSnapshot(snapshot, buffer);
+        SpawnAnimation spawnSnapshot = (SpawnAnimation) snapshot;
+        spawnSnapshot.size = size;
+        spawnSnapshot.numberOfParticles = numberOfParticles;
+        for (int i = 0; i < numberOfParticles; i++) {
+            spawnSnapshot.particles[i] = (ParticleAnimation) particles[i].getSnapshot(buffer);
+        }
+    }
+
+    // The particles are placed so they stay inside the size of the spawning object.
+    @Override
+    public boolean getScreenBounds(Rectangle bounds) {
+        if (isFinished || animationTickCounter < 0) {
+            bounds.setBounds(0, 0, 0, 0);
+            return true;
+        }
+        setScreenBounds(
+                bounds,
+                position.getX() - size / 2.0,
+                position.getY() - size / 2.0,
+                position.getX() + size / 2.0,
+                position.getY() + size / 2.0
+        );
+        return true;
+    }
+
 }
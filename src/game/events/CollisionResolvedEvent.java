@@ -0,0 +1,82 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game.events;
+
+import game.GameObject;
+import game.Collidable;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("game.CollisionResolved")
+@Label("Collision Resolved")
+@Category("Dotger")
+@Description("Two objects collided and the game reacted to it")
+@StackTrace(false)
+public class CollisionResolvedEvent extends Event {
+
+    public static final String DESTROYED = "destroyed";
+    public static final String REFLECTED = "reflected";
+    public static final String PLAYER_HIT = "player hit";
+
+    // Classes are stored only once per recording, names would be stored with every event.
+    @Label("Object Type")
+    Class<?> objectType;
+
+    @Label("Object Shape")
+    Class<?> objectShape;
+
+    @Label("Other Object Type")
+    Class<?> otherObjectType;
+
+    @Label("Other Object Shape")
+    Class<?> otherObjectShape;
+
+    @Label("Outcome")
+    String outcome;
+
+    public static void commit(GameObject object, GameObject otherObject, String outcome) {
+        // Called too rarely to be optimized by the JIT compiler, so without a recorder the
+        // event isn't even created.
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        CollisionResolvedEvent event = new CollisionResolvedEvent();
+        if (event.shouldCommit()) {
+            event.objectType = object.getClass();
+            event.objectShape = getShapeType(object);
+            event.otherObjectType = otherObject.getClass();
+            event.otherObjectShape = getShapeType(otherObject);
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    private static Class<?> getShapeType(GameObject object) {
+        if (object instanceof Collidable collidable) {
+            return collidable.getShape().getClass();
+        }
+        return null;
+    }
+
+}
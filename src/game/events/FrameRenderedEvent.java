@@ -0,0 +1,65 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("game.FrameRendered")
+@Label("Frame Rendered")
+@Category("Dotger")
+@Description("The game field was drawn, by Swing or by the game loop with active rendering")
+@StackTrace(false)
+public class FrameRenderedEvent extends Event {
+
+    @Label("Objects")
+    int objectCount;
+
+    @Label("Active Rendering")
+    boolean activeRendering;
+
+    @Label("Painted Area")
+    @Description("Pixels of the game field which were drawn again")
+    int paintedArea;
+
+    // Like the game tick event it isn't created without a recorder.
+    public static FrameRenderedEvent beginFrame() {
+        if (!FlightRecorder.isInitialized()) {
+            return null;
+        }
+        FrameRenderedEvent event = new FrameRenderedEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(int objectCount, boolean activeRendering, int paintedArea) {
+        end();
+        if (shouldCommit()) {
+            this.objectCount = objectCount;
+            this.activeRendering = activeRendering;
+            this.paintedArea = paintedArea;
+            commit();
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// The events of the game for the Java Flight Recorder. Without a running recording they
+// cost nothing, their fields are only filled when the event is recorded. Each event is only
+// committed at one place, so the stack traces are left out.
+@Name("game.GameTick")
+@Label("Game Tick")
+@Category("Dotger")
+@Description("One step of the game simulation")
+@StackTrace(false)
+public class GameTickEvent extends Event {
+
+    @Label("Objects")
+    int objectCount;
+
+    @Label("Speed Change Factor")
+    double speedChangeFactor;
+
+    // Without a recorder the event isn't even created. The JIT compiler removes the object as
+    // well, but not while a deoptimized tick runs in the interpreter.
+    public static GameTickEvent beginTick() {
+        if (!FlightRecorder.isInitialized()) {
+            return null;
+        }
+        GameTickEvent event = new GameTickEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(int objectCount, double speedChangeFactor) {
+        end();
+        if (shouldCommit()) {
+            this.objectCount = objectCount;
+            this.speedChangeFactor = speedChangeFactor;
+            commit();
+        }
+    }
+
+}
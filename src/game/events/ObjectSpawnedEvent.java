@@ -0,0 +1,64 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("game.ObjectSpawned")
+@Label("Object Spawned")
+@Category("Dotger")
+@Description("The search for a free place for a new object, also when no place was found")
+@StackTrace(false)
+public class ObjectSpawnedEvent extends Event {
+
+    @Label("Object Type")
+    Class<?> objectType;
+
+    @Label("Placement Attempts")
+    int placementAttempts;
+
+    @Label("Placed")
+    boolean placed;
+
+    // Like the game tick event it isn't created without a recorder.
+    public static ObjectSpawnedEvent beginSpawn() {
+        if (!FlightRecorder.isInitialized()) {
+            return null;
+        }
+        ObjectSpawnedEvent event = new ObjectSpawnedEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commit(Class<?> objectType, int placementAttempts, boolean placed) {
+        end();
+        if (shouldCommit()) {
+            this.objectType = objectType;
+            this.placementAttempts = placementAttempts;
+            this.placed = placed;
+            commit();
+        }
+    }
+
+}
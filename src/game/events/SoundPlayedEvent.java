@@ -0,0 +1,63 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("game.SoundPlayed")
+@Label("Sound Played")
+@Category("Dotger")
+@Description("A sound effect started playing in the audio mixer")
+@StackTrace(false)
+public class SoundPlayedEvent extends Event {
+
+    @Label("Sound")
+    String sound;
+
+    @Label("Start Latency")
+    @Description("Time from the request of the game until the audio thread started the sound")
+    @Timespan(Timespan.NANOSECONDS)
+    long startLatency;
+
+    @Label("Voice Stolen")
+    @Description("All voices were playing, so the one closest to its end was cut off")
+    boolean voiceStolen;
+
+    public static void commit(String sound, long startLatency, boolean voiceStolen) {
+        // Called too rarely to be optimized by the JIT compiler, so without a recorder the
+        // event isn't even created.
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        SoundPlayedEvent event = new SoundPlayedEvent();
+        if (event.shouldCommit()) {
+            event.sound = sound;
+            event.startLatency = startLatency;
+            event.voiceStolen = voiceStolen;
+            event.commit();
+        }
+    }
+
+}
@@ -22,8 +22,10 @@ import static game.GameConstants.*;
 
 import game.CircleAngle;
 import game.GameColors;
+import game.GameObject;
+import game.TickRate;
 import game.animations.Animation;
-import game.animations.DestroyAnimation;
+import game.animations.AnimationFactory;
 import game.animations.ShockWave;
 
 public class BlastBall extends MulticolorBall {
@@ -31,6 +33,7 @@ public class BlastBall extends MulticolorBall {
 	private boolean growing;
 	private final double secondRadiusStart;
 	private double secondRadius;
+	private final double pulsatingSpeed;
 	
 	public BlastBall() {
 		this(0, 0, new CircleAngle());
@@ -41,6 +44,8 @@ public class BlastBall extends MulticolorBall {
 		secondRadiusStart = getRadius() * 0.5;
 		secondRadius = secondRadiusStart;
 		growing = true;
+		// Pulsates at the same pace in slow motion, but not faster at higher tick rates.
+		pulsatingSpeed = BLASTBALL_PULSATING_SPEED * TickRate.get().getTickScale();
 	}
 
 	@Override
@@ -52,9 +57,9 @@ public class BlastBall extends MulticolorBall {
 	public void animate(double speedChangeFactor) {
 		super.animate(speedChangeFactor);
 		if (growing) {
-			secondRadius += BLASTBALL_PULSATING_SPEED;
+			secondRadius += pulsatingSpeed;
 		} else {
-			secondRadius -= BLASTBALL_PULSATING_SPEED;
+			secondRadius -= pulsatingSpeed;
 		}
 		if (secondRadius > secondRadiusStart + BLASTBALL_PULSATING_WIDTH) {
 			secondRadius = secondRadiusStart + BLASTBALL_PULSATING_WIDTH;
@@ -67,9 +72,9 @@ public class BlastBall extends MulticolorBall {
 	}
 	
 	@Override
-	public Animation[] getDestroyAnimations() {
+	public Animation[] getDestroyAnimations(AnimationFactory animationFactory) {
 		return new Animation[] {
-				new DestroyAnimation(
+				animationFactory.createDestroyAnimation(
 						getPosX(), 
 						getPosY(), 
 						getSize(), 
@@ -91,4 +96,10 @@ public class BlastBall extends MulticolorBall {
 		return secondRadius;
 	}
 
+	@Override
+	protected void updateSnapshot(GameObject snapshot, int buffer) {
+		super.updateSnapshot(snapshot, buffer);
+		((BlastBall) snapshot).secondRadius = secondRadius;
+	}
+
 }
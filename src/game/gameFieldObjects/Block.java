@@ -20,7 +20,7 @@ package game.gameFieldObjects;
 
 import game.Destructible;
 import game.animations.Animation;
-import game.animations.DestroyAnimation;
+import game.animations.AnimationFactory;
 import game.shapes.Square;
 
 import static game.GameConstants.DESTROYANIMATION_SPEED;
@@ -34,9 +34,9 @@ public abstract class Block extends GameFieldObject implements Destructible {
     }
     
     @Override
-	public Animation[] getDestroyAnimations() {
+	public Animation[] getDestroyAnimations(AnimationFactory animationFactory) {
     	return new Animation[] {
-    			new DestroyAnimation(
+    			animationFactory.createDestroyAnimation(
     					getPosX(),
     					getPosY(),
     					getSize(),
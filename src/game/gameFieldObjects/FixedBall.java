@@ -25,12 +25,15 @@ import game.CircleAngle;
 import game.GameColors;
 import game.PlayerCollidable;
 import game.Spawnable;
+import game.SpriteCache;
+import game.SpriteDrawable;
 
 import java.awt.*;
+import java.awt.geom.Ellipse2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 
-public class FixedBall extends Ball implements PlayerCollidable, Spawnable {
+public class FixedBall extends Ball implements PlayerCollidable, Spawnable, SpriteDrawable {
 
     public FixedBall() {
         this(50, 50);
@@ -38,6 +41,7 @@ public class FixedBall extends Ball implements PlayerCollidable, Spawnable {
 
     public FixedBall(double posX, double posY) {
         super(posX, posY, FIXEDBALL_RADIUS, GameColors.FIXED_BALL);
+        spriteKey = new FixedBallLook(getRadius(), getColor());
     }
 
     @Override
@@ -61,20 +65,32 @@ public class FixedBall extends Ball implements PlayerCollidable, Spawnable {
 
     @Override
     public void draw(Graphics2D g) {
+        SpriteCache.draw(g, this, getPosX(), getPosY());
+    }
+
+    private record FixedBallLook(double radius, Color color) {}
+
+    // A fixed ball never changes its look.
+    private final FixedBallLook spriteKey;
+
+    @Override
+    public Object getSpriteKey() {
+        return spriteKey;
+    }
+
+    @Override
+    public double getSpriteRadius() {
+        return getRadius();
+    }
+
+    @Override
+    public void paintSprite(Graphics2D g, double centerX, double centerY) {
+        double radius = getRadius();
+        double innerRadius = radius * 0.8;
         g.setColor(getColor());
-        g.fillOval(
-                toPixelInt(position.getX() - getRadius()),
-                toPixelInt(position.getY() - getRadius()),
-                toPixelInt(getRadius() * 2),
-                toPixelInt(getRadius() * 2)
-        );
+        g.fill(new Ellipse2D.Double(centerX - radius, centerY - radius, radius * 2, radius * 2));
         g.setColor(getColor().darker());
-        g.fillOval(
-                toPixelInt(position.getX() - getRadius() * 0.8),
-                toPixelInt(position.getY() - getRadius() * 0.8),
-                toPixelInt(getRadius() * 0.8 * 2),
-                toPixelInt(getRadius() * 0.8 * 2)
-        );
+        g.fill(new Ellipse2D.Double(centerX - innerRadius, centerY - innerRadius, innerRadius * 2, innerRadius * 2));
     }
 
 }
@@ -24,13 +24,14 @@ import static game.Helpers.*;
 
 import game.*;
 import game.animations.Animation;
-import game.animations.DestroyAnimation;
+import game.animations.AnimationFactory;
 
 import java.awt.*;
+import java.awt.geom.Ellipse2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.geom.Point2D;
 
-public class GameBall extends Ball implements ObjectCollidable, Movable, Spawnable, Animatable, Destructible {
+public class GameBall extends Ball implements ObjectCollidable, Movable, Spawnable, Animatable, Destructible, SpriteDrawable {
 
 	public static boolean isParty;
 
@@ -38,7 +39,7 @@ public class GameBall extends Ball implements ObjectCollidable, Movable, Spawnab
 	protected int partyColorIndex;
 	protected double partyChangeCounter;
 	protected final int partyChangeAfterGameTicks;
-	protected CircleAngle direction;
+	protected double direction;
 	protected Color partyColor;
 	
 	public GameBall() {
@@ -51,7 +52,7 @@ public class GameBall extends Ball implements ObjectCollidable, Movable, Spawnab
 	
 	public GameBall(double posX, double posY, double radius, CircleAngle direction, double speed, Color color) {
 		super(posX, posY, radius, color);
-		this.direction = direction;
+		this.direction = direction.get();
 		this.speed = speed;
 		partyColor = GameColors.PARTY_COLORS[0];
 		partyColorIndex = 0;
@@ -81,54 +82,74 @@ public class GameBall extends Ball implements ObjectCollidable, Movable, Spawnab
 
 	@Override
 	public void draw(Graphics2D g) {
-		Graphics2D graphics2D = (Graphics2D) g.create();
-		graphics2D.setPaint(new RadialGradientPaint(
-				(float) getPosX(), (float) getPosY(),
-				(float) getRadius(),
+		SpriteCache.draw(g, this, getPosX(), getPosY());
+	}
+
+	@Override
+	public void drawAt(Graphics2D g, double posX, double posY) {
+		SpriteCache.draw(g, this, posX, posY);
+	}
+
+	private record BallLook(double radius, Color color) {}
+
+	// Only created again when the look changes, so drawing the ball doesn't create any objects.
+	private BallLook spriteKey;
+
+	// In party mode the key is one of the party colors, so the balls switch between cached looks.
+	@Override
+	public Object getSpriteKey() {
+		double radius = getRadius();
+		Color currentColor = getColor();
+		if (spriteKey == null || spriteKey.radius() != radius || !spriteKey.color().equals(currentColor)) {
+			spriteKey = new BallLook(radius, currentColor);
+		}
+		return spriteKey;
+	}
+
+	@Override
+	public double getSpriteRadius() {
+		return getRadius();
+	}
+
+	@Override
+	public void paintSprite(Graphics2D g, double centerX, double centerY) {
+		double radius = getRadius();
+		g.setPaint(new RadialGradientPaint(
+				(float) centerX, (float) centerY,
+				(float) radius,
 				new float[] {0f, 1f},
 				new Color[] {getColor(), GameColors.getDarkerByValue(getColor(), 20)}
 		));
-		graphics2D.fillOval(
-				toPixelInt(position.getX() - getRadius()),
-				toPixelInt(position.getY() - getRadius()),
-				toPixelInt(getRadius() * 2),
-				toPixelInt(getRadius() * 2)
-		);
-		graphics2D.setColor(Color.white);
-		graphics2D.fillOval(
-				toPixelInt(position.getX() - getRadius() + getRadius() / 1.5),
-				toPixelInt(position.getY() - getRadius() + getRadius() / 3),
-				toPixelInt(getRadius() / 4),
-				toPixelInt(getRadius() / 8)
-		);
-		graphics2D.dispose();
+		g.fill(new Ellipse2D.Double(centerX - radius, centerY - radius, radius * 2, radius * 2));
+		g.setColor(Color.white);
+		g.fill(new Ellipse2D.Double(centerX - radius / 3, centerY - radius * 2 / 3, radius / 4, radius / 8));
 	}
 
 	@Override
 	public void move(double speedChangeFactor) {
 		position.setLocation(
-				position.getX() + Math.cos(direction.get()) * speed * speedChangeFactor,
-				position.getY() + Math.sin(direction.get()) * speed * speedChangeFactor
+				position.getX() + Math.cos(direction) * speed * speedChangeFactor,
+				position.getY() + Math.sin(direction) * speed * speedChangeFactor
 		);
 	}
 
 	@Override
 	public boolean isOnCollisionCourse(Collidable otherObject) {
-		CircleAngle collisionAngle = getCollisionAngle(otherObject);
-		return CircleAngle.smallerAngleBetween(collisionAngle, direction).get() < CircleAngle.DEGREE_90.get();
+		double collisionAngle = getCollisionAngleValue(otherObject);
+		return CircleAngle.smallerAngleBetween(collisionAngle, direction) < CircleAngle.DEGREE_90.get();
 	}
 
 	@Override
 	public void reactToCollision(Collidable otherObject) {
-		CircleAngle collisionAngle = getCollisionAngle(otherObject);
+		double collisionAngle = getCollisionAngleValue(otherObject);
 		setSpeed(getSpeedAfterCollision(collisionAngle, direction, speed));
 		direction = getDirectionAfterCollision(collisionAngle, direction);
 	}
 
 	@Override
-	public Animation[] getDestroyAnimations() {
+	public Animation[] getDestroyAnimations(AnimationFactory animationFactory) {
 		return new Animation[] {
-				new DestroyAnimation(
+				animationFactory.createDestroyAnimation(
 						getPosX(),
 						getPosY(),
 						getSize(),
@@ -159,6 +180,18 @@ public class GameBall extends Ball implements ObjectCollidable, Movable, Spawnab
 		}
 	}
 	
+	// The snapshot keeps the color of the current party state.
+	@Override
+	protected void updateSnapshot(GameObject snapshot, int buffer) {
+		super.updateSnapshot(snapshot, buffer);
+		GameBall ballSnapshot = (GameBall) snapshot;
+		ballSnapshot.color = getColor();
+		ballSnapshot.partyColor = ballSnapshot.color;
+		// The key is kept up to date here, so the snapshots of an unchanged ball share it.
+		getSpriteKey();
+		ballSnapshot.spriteKey = spriteKey;
+	}
+	
 	protected Color getNextPartyColor() {
 		partyColorIndex++;
 		if (partyColorIndex >= GameColors.PARTY_COLORS.length) {
@@ -18,6 +18,8 @@
 
 package game.gameFieldObjects;
 
+import static game.GameConstants.SCREEN_BOUNDS_MARGIN;
+
 import game.GameObject;
 import game.shapes.GameShape;
 
@@ -32,8 +34,16 @@ public abstract class GameFieldObject extends GameObject {
         this.shape = shape;
     }
 
+    @Override
+    public boolean getScreenBounds(Rectangle bounds) {
+        // A Rectangle takes the shape bounds rounded outwards to whole pixels.
+        shape.setBounds(bounds, getPosX(), getPosY());
+        bounds.grow(SCREEN_BOUNDS_MARGIN, SCREEN_BOUNDS_MARGIN);
+        return true;
+    }
+
     public GameShape getShape() {
-        return shape.getCopy();
+        return shape;
     }
 
     public double getSize() {
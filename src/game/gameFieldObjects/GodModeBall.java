@@ -23,6 +23,7 @@ import static game.GameColors.*;
 
 import game.CircleAngle;
 import game.animations.Animation;
+import game.animations.AnimationFactory;
 
 public class GodModeBall extends MulticolorBall {
 	
@@ -40,7 +41,7 @@ public class GodModeBall extends MulticolorBall {
 	}
 	
 	@Override
-	public Animation[] getDestroyAnimations() {
+	public Animation[] getDestroyAnimations(AnimationFactory animationFactory) {
 		return new Animation[0];
 	}
 
@@ -23,6 +23,7 @@ import static game.GameConstants.*;
 import game.CircleAngle;
 import game.GameColors;
 import game.animations.Animation;
+import game.animations.AnimationFactory;
 
 public class LiveBall extends GameBall {
 
@@ -40,7 +41,7 @@ public class LiveBall extends GameBall {
 	}
 	
 	@Override
-	public Animation[] getDestroyAnimations() {
+	public Animation[] getDestroyAnimations(AnimationFactory animationFactory) {
 		return new Animation[0];
 	}
 	
@@ -18,11 +18,11 @@
 
 package game.gameFieldObjects;
 
-import static game.Helpers.*;
-
 import game.CircleAngle;
+import game.GameObject;
 
 import java.awt.*;
+import java.awt.geom.Ellipse2D;
 
 public class MulticolorBall extends GameBall {
 
@@ -33,22 +33,47 @@ public class MulticolorBall extends GameBall {
 		this.secondColor = secondColor;
 	}
 	
+	private record MulticolorBallLook(double radius, Color color, double secondRadius, Color secondColor) {}
+
+	private MulticolorBallLook spriteKey;
+
+	@Override
+	public Object getSpriteKey() {
+		double radius = getRadius();
+		Color currentColor = getColor();
+		double secondRadius = getSpriteSecondRadius();
+		if (spriteKey == null
+				|| spriteKey.radius() != radius
+				|| !spriteKey.color().equals(currentColor)
+				|| spriteKey.secondRadius() != secondRadius
+				|| !spriteKey.secondColor().equals(secondColor)) {
+			spriteKey = new MulticolorBallLook(radius, currentColor, secondRadius, secondColor);
+		}
+		return spriteKey;
+	}
+
 	@Override
-	public void draw(Graphics2D g) {
+	public void paintSprite(Graphics2D g, double centerX, double centerY) {
+		double radius = getRadius();
+		double secondRadius = getSpriteSecondRadius();
 		g.setColor(getColor());
-		g.fillOval(
-				toPixelInt(position.getX() - getRadius()),
-				toPixelInt(position.getY() - getRadius()),
-				toPixelInt(getRadius() * 2),
-				toPixelInt(getRadius() * 2)
-		);
+		g.fill(new Ellipse2D.Double(centerX - radius, centerY - radius, radius * 2, radius * 2));
 		g.setColor(getSecondColor());
-		g.fillOval(
-				toPixelInt(position.getX() - getSecondRadius()),
-				toPixelInt(position.getY() - getSecondRadius()),
-				toPixelInt(getSecondRadius() * 2),
-				toPixelInt(getSecondRadius() * 2)
-		);
+		g.fill(new Ellipse2D.Double(centerX - secondRadius, centerY - secondRadius, secondRadius * 2, secondRadius * 2));
+	}
+
+	// The pulsating second radius of the blast ball is rounded to a quarter pixel, so it only
+	// needs a few sprites.
+	private double getSpriteSecondRadius() {
+		return Math.round(getSecondRadius() * 4) / 4.0;
+	}
+
+	@Override
+	protected void updateSnapshot(GameObject snapshot, int buffer) {
+		super.updateSnapshot(snapshot, buffer);
+		MulticolorBall ballSnapshot = (MulticolorBall) snapshot;
+		ballSnapshot.secondColor = secondColor;
+		ballSnapshot.spriteKey = spriteKey;
 	}
 
 	public Color getSecondColor() {
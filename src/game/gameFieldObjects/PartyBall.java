@@ -22,6 +22,7 @@ import static game.GameConstants.*;
 
 import game.CircleAngle;
 import game.animations.Animation;
+import game.animations.AnimationFactory;
 
 import java.awt.Color;
 
@@ -50,7 +51,7 @@ public class PartyBall extends GameBall {
 	}
 	
 	@Override
-	public Animation[] getDestroyAnimations() {
+	public Animation[] getDestroyAnimations(AnimationFactory animationFactory) {
 		return new Animation[0];
 	}
 	
@@ -39,12 +39,12 @@ public class PlayerBall extends Ball implements Collidable, Animatable {
 		this.speed = speed;
 	}
 
-	public PlayerBall getFuturePlayer(CircleAngle direction, double speedChangeFactor) {
-		PlayerBall futurePlayer = new PlayerBall(position.getX(), position.getY(), getRadius(), speed);
+	// Moves the given future player to where this player would be after moving in the given direction.
+	public void updateFuturePlayer(PlayerBall futurePlayer, CircleAngle direction, double speedChangeFactor) {
+		futurePlayer.position.setLocation(position.getX(), position.getY());
 		if (direction != null) {
 			futurePlayer.moveInDirection(direction, speedChangeFactor);
 		}
-		return futurePlayer;
 	}
 	
 	public void moveInDirection(CircleAngle direction, double speedChangeFactor) {
@@ -75,10 +75,15 @@ public class PlayerBall extends Ball implements Collidable, Animatable {
 
 	@Override
 	public void draw(Graphics2D g) {
+		drawAt(g, position.getX(), position.getY());
+	}
+
+	@Override
+	public void drawAt(Graphics2D g, double posX, double posY) {
 		g.setColor(getColor());
 		g.fillOval(
-				toPixelInt(position.getX() - getRadius()),
-				toPixelInt(position.getY() - getRadius()),
+				toPixelInt(posX - getRadius()),
+				toPixelInt(posY - getRadius()),
 				toPixelInt(getRadius() * 2),
 				toPixelInt(getRadius() * 2)
 		);
@@ -106,4 +111,12 @@ public class PlayerBall extends Ball implements Collidable, Animatable {
 		return isInvincible;
 	}
 
+	@Override
+	protected void updateSnapshot(GameObject snapshot, int buffer) {
+		super.updateSnapshot(snapshot, buffer);
+		PlayerBall playerSnapshot = (PlayerBall) snapshot;
+		playerSnapshot.isInvincible = isInvincible;
+		playerSnapshot.getsHurt = getsHurt;
+	}
+
 }
@@ -25,13 +25,14 @@ import static game.Helpers.*;
 import game.*;
 
 import java.awt.*;
+import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 
-public class PlayerMovingBlock extends Block implements PlayerMovingCollidable, Movable, Spawnable {
+public class PlayerMovingBlock extends Block implements PlayerMovingCollidable, Movable, Spawnable, SpriteDrawable {
 
     private final double speed;
-    private CircleAngle direction;
+    private double direction;
 
     public PlayerMovingBlock() {
         this(0, 0, 0, new CircleAngle(), 0);
@@ -39,8 +40,9 @@ public class PlayerMovingBlock extends Block implements PlayerMovingCollidable,
 
     public PlayerMovingBlock(double posX, double posY, double sideLength, CircleAngle direction, double speed) {
         super(posX, posY, sideLength, GameColors.PLAYER_MOVING_BLOCK);
-        this.direction = direction;
+        this.direction = direction.get();
         this.speed = speed;
+        spriteKey = new PlayerMovingBlockLook(getSideLength(), getColor());
     }
 
     @Override
@@ -63,51 +65,79 @@ public class PlayerMovingBlock extends Block implements PlayerMovingCollidable,
 
     @Override
     public void draw(Graphics2D g) {
+        SpriteCache.draw(g, this, getPosX(), getPosY());
+    }
+
+    @Override
+    public void drawAt(Graphics2D g, double posX, double posY) {
+        SpriteCache.draw(g, this, posX, posY);
+    }
+
+    private record PlayerMovingBlockLook(double sideLength, Color color) {}
+
+    // The block never changes its look.
+    private final PlayerMovingBlockLook spriteKey;
+
+    @Override
+    public Object getSpriteKey() {
+        return spriteKey;
+    }
+
+    @Override
+    public double getSpriteRadius() {
+        return getSideLength() / 2.0;
+    }
+
+    @Override
+    public void paintSprite(Graphics2D g, double centerX, double centerY) {
         double halfSideLength = getSideLength() / 2.0;
-        int middleX = toPixelInt(position.getX());
-        int middleY = toPixelInt(position.getY());
-        int topLeftX = toPixelInt(position.getX() - halfSideLength);
-        int topLeftY = toPixelInt(position.getY() - halfSideLength);
-        int topRightX = toPixelInt(position.getX() + halfSideLength);
-        int topRightY = toPixelInt(position.getY() - halfSideLength);
-        int bottomLeftX = toPixelInt(position.getX() - halfSideLength);
-        int bottomLeftY = toPixelInt(position.getY() + halfSideLength);
-        int bottomRightX = toPixelInt(position.getX() + halfSideLength);
-        int bottomRightY = toPixelInt(position.getY() + halfSideLength);
+        double left = centerX - halfSideLength;
+        double right = centerX + halfSideLength;
+        double top = centerY - halfSideLength;
+        double bottom = centerY + halfSideLength;
         g.setColor(getColor());
-        g.fillPolygon(new int[] {topLeftX, topRightX, middleX}, new int[] {topLeftY, topRightY, middleY}, 3);
+        g.fill(getTriangle(left, top, right, top, centerX, centerY));
         g.setColor(getColor().darker().darker());
-        g.fillPolygon(new int[] {topRightX, bottomRightX, middleX}, new int[] {topRightY, bottomRightY, middleY}, 3);
+        g.fill(getTriangle(right, top, right, bottom, centerX, centerY));
         g.setColor(getColor().darker().darker().darker());
-        g.fillPolygon(new int[] {bottomRightX, bottomLeftX, middleX}, new int[] {bottomRightY, bottomLeftY, middleY}, 3);
+        g.fill(getTriangle(right, bottom, left, bottom, centerX, centerY));
         g.setColor(getColor().darker());
-        g.fillPolygon(new int[] {bottomLeftX, topLeftX, middleX}, new int[] {bottomLeftY, topLeftY, middleY}, 3);
+        g.fill(getTriangle(left, bottom, left, top, centerX, centerY));
+    }
+
+    private static Path2D.Double getTriangle(double x1, double y1, double x2, double y2, double x3, double y3) {
+        Path2D.Double triangle = new Path2D.Double();
+        triangle.moveTo(x1, y1);
+        triangle.lineTo(x2, y2);
+        triangle.lineTo(x3, y3);
+        triangle.closePath();
+        return triangle;
     }
 
     @Override
     public void move(double speedChangeFactor) {
         position.setLocation(
-                position.getX() + Math.cos(direction.get()) * speed * speedChangeFactor,
-                position.getY() + Math.sin(direction.get()) * speed * speedChangeFactor
+                position.getX() + Math.cos(direction) * speed * speedChangeFactor,
+                position.getY() + Math.sin(direction) * speed * speedChangeFactor
         );
     }
 
     @Override
     public boolean isOnCollisionCourse(Collidable otherObject) {
-        CircleAngle collisionAngle = getCollisionAngle(otherObject);
-        return CircleAngle.smallerAngleBetween(collisionAngle, direction).get() < CircleAngle.DEGREE_90.get();
+        double collisionAngle = getCollisionAngleValue(otherObject);
+        return CircleAngle.smallerAngleBetween(collisionAngle, direction) < CircleAngle.DEGREE_90.get();
     }
 
     @Override
     public double getPlayerPushSpeed(PlayerBall player) {
-        CircleAngle angleBetween = CircleAngle.smallerAngleBetween(getPlayerPushDirection(player), direction);
-        double pushSpeed = Math.cos(angleBetween.get()) * speed;
+        double angleBetween = CircleAngle.smallerAngleBetween(getPlayerPushDirection(player).get(), direction);
+        double pushSpeed = Math.cos(angleBetween) * speed;
         return pushSpeed > 0 ? pushSpeed : 0;
     }
 
     @Override
     public void reactToCollision(Collidable otherObject) {
-        CircleAngle collisionAngle = getCollisionAngle(otherObject);
+        double collisionAngle = getCollisionAngleValue(otherObject);
         direction = getDirectionAfterCollision(collisionAngle, direction);
     }
 
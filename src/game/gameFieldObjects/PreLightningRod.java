@@ -23,6 +23,7 @@ import static game.Helpers.*;
 
 import game.*;
 import game.animations.Animation;
+import game.animations.AnimationFactory;
 import game.animations.LightningAnimation;
 import game.shapes.Line;
 
@@ -31,6 +32,8 @@ import java.awt.*;
 public class PreLightningRod extends Rod implements Destructible, Animatable {
 
     private int gameTickCounter = 0;
+    private final double tickScale = TickRate.get().getTickScale();
+    private final int lifetimeTicks = TickRate.get().toTicks(PRELIGHTNINGROD_GAME_TICKS);
     private Color drawColor;
 
     public PreLightningRod(double posX, double posY, double length, CircleAngle angle) {
@@ -40,8 +43,9 @@ public class PreLightningRod extends Rod implements Destructible, Animatable {
 
     @Override
     public void animate(double speedChangeFactor) {
-        drawColor = GameColors.getBrighterByValue(drawColor, 1);
-        if (gameTickCounter > PRELIGHTNINGROD_GAME_TICKS) {
+        // Gets one step brighter per tick of GAME_TICK_LENGTH_MS.
+        drawColor = GameColors.getBrighterByValue(getColor(), (int) Math.round((gameTickCounter + 1) * tickScale));
+        if (gameTickCounter > lifetimeTicks) {
             markForRemoval();
         }
         gameTickCounter++;
@@ -59,7 +63,13 @@ public class PreLightningRod extends Rod implements Destructible, Animatable {
     }
 
     @Override
-    public Animation[] getDestroyAnimations() {
+    protected void updateSnapshot(GameObject snapshot, int buffer) {
+        super.updateSnapshot(snapshot, buffer);
+        ((PreLightningRod) snapshot).drawColor = drawColor;
+    }
+
+    @Override
+    public Animation[] getDestroyAnimations(AnimationFactory animationFactory) {
         return new Animation[] {
         		new LightningAnimation(
         				position.getX(),
@@ -19,12 +19,12 @@
 package game.gameFieldObjects;
 
 import static game.GeometryLogic.getDirectionAfterCollision;
-import static game.Helpers.*;
 import static game.GameConstants.*;
 
 import game.CircleAngle;
 import game.Collidable;
 import game.GameColors;
+import game.GameObject;
 
 import java.awt.*;
 
@@ -43,21 +43,41 @@ public class TitleBall extends GameBall {
         return new TitleBall(posX, posY, ' ');
     }
 
+    private record TitleBallLook(double radius, Color color, char letter) {}
+
+    private TitleBallLook spriteKey;
+
+    @Override
+    public Object getSpriteKey() {
+        double radius = getRadius();
+        Color currentColor = getColor();
+        if (spriteKey == null || spriteKey.radius() != radius || !spriteKey.color().equals(currentColor)) {
+            spriteKey = new TitleBallLook(radius, currentColor, letter);
+        }
+        return spriteKey;
+    }
+
     @Override
-    public void draw(Graphics2D g) {
-        super.draw(g);
+    public void paintSprite(Graphics2D g, double centerX, double centerY) {
+        super.paintSprite(g, centerX, centerY);
         g.setFont(FONT);
         g.setColor(Color.white);
         g.drawString(
                 String.valueOf(letter),
-                toPixelInt(position.getX() - g.getFontMetrics().stringWidth(String.valueOf(letter)) / 2.0),
-                toPixelInt(position.getY() + g.getFontMetrics().getAscent() / 2.0)
+                (float) (centerX - g.getFontMetrics().stringWidth(String.valueOf(letter)) / 2.0),
+                (float) (centerY + g.getFontMetrics().getAscent() / 2.0)
         );
     }
 
+    @Override
+    protected void updateSnapshot(GameObject snapshot, int buffer) {
+        super.updateSnapshot(snapshot, buffer);
+        ((TitleBall) snapshot).spriteKey = spriteKey;
+    }
+
     @Override
     public void reactToCollision(Collidable otherObject) {
-        CircleAngle collisionAngle = getCollisionAngle(otherObject);
+        double collisionAngle = getCollisionAngleValue(otherObject);
         direction = getDirectionAfterCollision(collisionAngle, direction);
     }
 
@@ -21,6 +21,7 @@ package game.gameFieldObjects;
 import static game.Helpers.*;
 
 import game.CircleAngle;
+import game.GameObject;
 import game.PlayerCollidable;
 import game.shapes.Line;
 
@@ -28,21 +29,39 @@ import java.awt.*;
 
 public class Wall extends GameFieldObject implements PlayerCollidable {
 
+    private static final BasicStroke STROKE = new BasicStroke(2);
+
+    // The walls run clockwise around the game field, so the field lies to the right of them.
+    private final double insideX;
+    private final double insideY;
+
     public Wall(double posX, double posY, double length, CircleAngle angle, Color color) {
         super(posX, posY, new Line(length, angle), color);
+        insideX = -Math.sin(angle.get());
+        insideY = Math.cos(angle.get());
+    }
+
+    // How far the point lies on the side of the game field, negative behind the wall.
+    public double getDistanceInside(double posX, double posY) {
+        return (posX - position.getX()) * insideX + (posY - position.getY()) * insideY;
+    }
+
+    public void pushInside(GameObject object, double distance) {
+        object.moveBy(insideX * distance, insideY * distance);
     }
     
     @Override
     public void draw(Graphics2D g) {
+    	Stroke oldStroke = g.getStroke();
     	g.setColor(color);
-        g.setStroke(new BasicStroke(2));
+        g.setStroke(STROKE);
     	g.drawLine(
     			toPixelInt(position.getX()),
     			toPixelInt(position.getY()),
     			toPixelInt(position.getX() + Math.cos(((Line) shape).getAngle().get()) * ((Line) shape).getLength()),
     			toPixelInt(position.getY() + Math.sin(((Line) shape).getAngle().get()) * ((Line) shape).getLength())
     	);
-        g.setStroke(new BasicStroke(1));
+        g.setStroke(oldStroke);
     }
 
 }
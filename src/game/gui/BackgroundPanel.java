@@ -18,38 +18,40 @@
 
 package game.gui;
 
+import game.GameAssets;
+
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.RenderingHints;
 import java.awt.TexturePaint;
+import java.awt.Transparency;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
 
-import javax.imageio.ImageIO;
 import javax.swing.JPanel;
 
 public class BackgroundPanel extends JPanel {
 	
-	private boolean isGameOver;
+	// Also read by the game loop thread when the GameCanvas draws the corners.
+	private volatile boolean isGameOver;
 	private TexturePaint paint;
 	private TexturePaint gameOverPaint;
+	private BufferedImage background;
 	
 	public BackgroundPanel() {
 		setOpaque(false);
-		try {
-			BufferedImage image = ImageIO.read(new File("images/pattern.png"));
+		// The patterns are loaded once at startup and shared by all windows.
+		GameAssets assets = GameAssets.getInstance();
+		BufferedImage image = assets.getPattern();
+		BufferedImage gameOverImage = assets.getGameOverPattern();
+		if (image != null && gameOverImage != null) {
 			paint = new TexturePaint(
 					image, new Rectangle2D.Double(0, 0, image.getWidth(), image.getHeight())
 			);
-			BufferedImage gameOverImage = ImageIO.read(new File("images/gameoverpattern.png"));
 			gameOverPaint = new TexturePaint(
 					gameOverImage, new Rectangle2D.Double(0, 0, gameOverImage.getWidth(), gameOverImage.getHeight())
 			);
-		} catch (IOException e) {
-			System.out.println("Das Hintergrundmuster konnte nicht geladen werden.");
 		}
 	}
 	
@@ -60,21 +62,38 @@ public class BackgroundPanel extends JPanel {
 				RenderingHints.KEY_ANTIALIASING,
 				RenderingHints.VALUE_ANTIALIAS_ON
 		));
-		if (paint != null) {
-			Paint oldPaint = graphics2D.getPaint();
-			graphics2D.setPaint(isGameOver ? gameOverPaint : paint);
-			graphics2D.fillRect(0, 0, getWidth(), getHeight());
-			graphics2D.setPaint(oldPaint);
+		if (paint != null && getWidth() > 0 && getHeight() > 0) {
+			if (background == null || background.getWidth() != getWidth() || background.getHeight() != getHeight()) {
+				background = createBackground(graphics2D);
+			}
+			graphics2D.drawImage(background, 0, 0, null);
 		}
 		super.paintComponent(graphics2D);
 	}
 	
+	// The pattern is drawn once into an image, the panel is repainted behind the game panel
+	// with every frame.
+	private BufferedImage createBackground(Graphics2D g) {
+		BufferedImage image = g.getDeviceConfiguration().createCompatibleImage(getWidth(), getHeight(), Transparency.TRANSLUCENT);
+		Graphics2D imageGraphics = image.createGraphics();
+		imageGraphics.setPaint(isGameOver ? gameOverPaint : paint);
+		imageGraphics.fillRect(0, 0, getWidth(), getHeight());
+		imageGraphics.dispose();
+		return image;
+	}
+	
+	public Paint getBackgroundPaint() {
+		return isGameOver ? gameOverPaint : paint;
+	}
+	
 	public void showLooseColors() {
 		isGameOver = true;
+		background = null;
 	}
 	
 	public void showNormalColors() {
 		isGameOver = false;
+		background = null;
 	}
 
 }
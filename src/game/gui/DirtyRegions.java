@@ -0,0 +1,156 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game.gui;
+
+import static game.GameConstants.*;
+
+import game.GameObject;
+import game.GameState;
+import game.Movable;
+import game.RenderSnapshot;
+import game.animations.FireworkShow;
+import game.gameFieldObjects.Wall;
+
+import java.awt.Rectangle;
+
+// Collects the parts of the game field that changed between two snapshots: everything the
+// objects of the shown snapshot covered and everything the objects of the new one cover.
+// Overlapping areas are merged. If too much changed, only a full repaint is worth it.
+// The rectangles are reused from frame to frame.
+public class DirtyRegions {
+
+    private final Rectangle gameField;
+    // One more than allowed, the last one is where a new region is merged.
+    private final Rectangle[] regions = new Rectangle[MAX_DIRTY_REGIONS + 1];
+    private int numberOfRegions;
+    private final Rectangle objectBounds = new Rectangle();
+    private final Rectangle previousBounds = new Rectangle();
+    private boolean fullRepaint;
+
+    public DirtyRegions(int width, int height) {
+        gameField = new Rectangle(0, 0, width, height);
+        for (int i = 0; i < regions.length; i++) {
+            regions[i] = new Rectangle();
+        }
+    }
+
+    public void collect(RenderSnapshot shownSnapshot, RenderSnapshot newSnapshot) {
+        numberOfRegions = 0;
+        // The game over screen and the switch between the game states change the whole field.
+        fullRepaint = shownSnapshot.getGameState() != newSnapshot.getGameState()
+                || newSnapshot.getGameState() == GameState.GAME_OVER;
+        addSnapshot(shownSnapshot);
+        addSnapshot(newSnapshot);
+        if (fullRepaint) {
+            return;
+        }
+        long area = 0;
+        for (int i = 0; i < numberOfRegions; i++) {
+            area += (long) regions[i].width * regions[i].height;
+        }
+        if (area > MAX_DIRTY_AREA_PERCENT * gameField.width * gameField.height) {
+            fullRepaint = true;
+        }
+    }
+
+    public boolean isFullRepaint() {
+        return fullRepaint;
+    }
+
+    public int getNumberOfRegions() {
+        return numberOfRegions;
+    }
+
+    // Only valid until the next call of collect.
+    public Rectangle getRegion(int index) {
+        return regions[index];
+    }
+
+    // Same objects as drawn by the GameRenderer, the walls belong to its static layer.
+    private void addSnapshot(RenderSnapshot snapshot) {
+        for (int i = 0; i < snapshot.getNumberOfGameObjects(); i++) {
+            GameObject object = snapshot.getGameObject(i);
+            if (fullRepaint) {
+                return;
+            }
+            if (object instanceof Movable) {
+                add(object, true);
+            } else if (!(object instanceof Wall || object instanceof FireworkShow)) {
+                add(object, false);
+            }
+        }
+        if (snapshot.getGameState() == GameState.RUNNING && !fullRepaint) {
+            add(snapshot.getPlayer(), true);
+        }
+    }
+
+    private void add(GameObject object, boolean moving) {
+        if (!object.getScreenBounds(objectBounds)) {
+            fullRepaint = true;
+            return;
+        }
+        // Interpolated frames draw a moving object anywhere between its previous and its
+        // current position.
+        if (moving && !objectBounds.isEmpty()
+                && (object.getPreviousPosX() != object.getPosX() || object.getPreviousPosY() != object.getPosY())) {
+            previousBounds.setBounds(objectBounds);
+            previousBounds.translate(
+                    (int) Math.floor(object.getPreviousPosX() - object.getPosX()),
+                    (int) Math.floor(object.getPreviousPosY() - object.getPosY())
+            );
+            previousBounds.grow(1, 1);
+            objectBounds.add(previousBounds);
+        }
+        addRegion(objectBounds);
+    }
+
+    private void addRegion(Rectangle bounds) {
+        int left = Math.max(bounds.x, gameField.x);
+        int top = Math.max(bounds.y, gameField.y);
+        int right = Math.min(bounds.x + bounds.width, gameField.x + gameField.width);
+        int bottom = Math.min(bounds.y + bounds.height, gameField.y + gameField.height);
+        if (right <= left || bottom <= top) {
+            return;
+        }
+        Rectangle region = regions[numberOfRegions];
+        region.setBounds(left, top, right - left, bottom - top);
+        // One pass over the regions, every region touching the new one is merged into it and
+        // its place is taken by the last region. A region only touching the grown region is
+        // kept, the overlap is just painted twice.
+        int i = 0;
+        while (i < numberOfRegions) {
+            Rectangle other = regions[i];
+            if (other.intersects(region)) {
+                region.add(other);
+                int last = numberOfRegions - 1;
+                regions[i] = regions[last];
+                regions[last] = region;
+                regions[numberOfRegions] = other;
+                numberOfRegions = last;
+            } else {
+                i++;
+            }
+        }
+        numberOfRegions++;
+        if (numberOfRegions > MAX_DIRTY_REGIONS) {
+            fullRepaint = true;
+        }
+    }
+
+}
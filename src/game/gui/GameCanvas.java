@@ -0,0 +1,106 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game.gui;
+
+import game.GameAssets;
+import game.RenderSnapshot;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+
+import javax.swing.SwingUtilities;
+
+// Active rendering backend: the game loop draws every frame into a back buffer and flips it,
+// instead of asking Swing for a repaint that may be coalesced or delayed.
+public class GameCanvas extends Canvas {
+
+    private static final int NUMBER_OF_BUFFERS = 2;
+
+    private final GameRenderer renderer;
+    private BufferStrategy bufferStrategy;
+    private BackgroundPanel backgroundPanel;
+    private Point backgroundOffset;
+    private volatile long frameNanos;
+
+    public GameCanvas(GameRenderer renderer) {
+        this.renderer = renderer;
+        setIgnoreRepaint(true);
+        setFocusable(false);
+    }
+
+    // Called by the game loop thread only.
+    public void render(RenderSnapshot snapshot, double alpha) {
+        if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+            bufferStrategy = null;
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            if (bufferStrategy == null) {
+                createBufferStrategy(NUMBER_OF_BUFFERS);
+                bufferStrategy = getBufferStrategy();
+                backgroundPanel = (BackgroundPanel) SwingUtilities.getAncestorOfClass(BackgroundPanel.class, this);
+                backgroundOffset = backgroundPanel == null
+                        ? new Point()
+                        : SwingUtilities.convertPoint(this, 0, 0, backgroundPanel);
+            }
+            do {
+                do {
+                    Graphics2D g = (Graphics2D) bufferStrategy.getDrawGraphics();
+                    try {
+                        drawBackground(g);
+                        renderer.paint(g, snapshot, alpha);
+                    } finally {
+                        g.dispose();
+                    }
+                } while (bufferStrategy.contentsRestored());
+                bufferStrategy.show();
+            } while (bufferStrategy.contentsLost());
+            Toolkit.getDefaultToolkit().sync();
+        } catch (IllegalStateException e) {
+            // The canvas was removed from the window while drawing, the buffers are created
+            // again for the next frame.
+            bufferStrategy = null;
+            return;
+        }
+        frameNanos = System.nanoTime() - start;
+        GameAssets.getInstance().firstFrameShown();
+    }
+
+    // The canvas is opaque, so the corners outside of the game field show the window
+    // background that shines through the transparent GamePanel.
+    private void drawBackground(Graphics2D g) {
+        Paint backgroundPaint = backgroundPanel == null ? null : backgroundPanel.getBackgroundPaint();
+        if (backgroundPaint == null) {
+            g.setColor(getParent().getBackground());
+            g.fillRect(0, 0, getWidth(), getHeight());
+            return;
+        }
+        g.translate(-backgroundOffset.x, -backgroundOffset.y);
+        g.setPaint(backgroundPaint);
+        g.fillRect(backgroundOffset.x, backgroundOffset.y, getWidth(), getHeight());
+        g.translate(backgroundOffset.x, backgroundOffset.y);
+    }
+
+    // Time of the last frame from drawing until the flipped buffer was handed to the screen.
+    public long getFrameNanos() {
+        return frameNanos;
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game.gui;
+
+import static game.GameConstants.*;
+
+import game.*;
+import game.animations.FireworkShow;
+import game.gameFieldObjects.Wall;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+// Draws a RenderSnapshot of the game field. Used by the GamePanel when Swing paints it and by
+// the GameCanvas when the game loop renders actively. A renderer keeps cached images, so it
+// must only be used by one thread.
+public class GameRenderer {
+
+    private final Dimension size;
+    private final Polygon gameFieldArea;
+    private BufferedImage staticLayer;
+    private BufferedImage opaqueStaticLayer;
+    private GraphicsConfiguration staticLayerConfiguration;
+    private PerformanceOverlay overlay;
+    // Only used by the thread that paints.
+    private final Rectangle objectBounds = new Rectangle();
+
+    public GameRenderer(int width, int height) {
+        size = new Dimension(width, height);
+        gameFieldArea = new Polygon(
+                new int[] {
+                        CORNER_SIZE, size.width - CORNER_SIZE, size.width, size.width,
+                        size.width - CORNER_SIZE, CORNER_SIZE, 0, 0
+                },
+                new int[] {
+                        0, 0, CORNER_SIZE, size.height - CORNER_SIZE,
+                        size.height, size.height, size.height - CORNER_SIZE, CORNER_SIZE
+                },
+                8
+        );
+    }
+
+    public void paint(Graphics2D g, RenderSnapshot snapshot) {
+        paint(g, snapshot, 1);
+    }
+
+    // Draws the moving objects at the given fraction of the way from their positions before the
+    // tick of the snapshot to their positions after it. Everything else is drawn as it is.
+    public void paint(Graphics2D g, RenderSnapshot snapshot, double alpha) {
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        drawStaticLayer(g, snapshot);
+        drawObjectsAndAnimations(g, snapshot, alpha);
+        if (snapshot.getGameState() == GameState.RUNNING) {
+            drawPlayer(g, snapshot, alpha);
+        } else if (snapshot.getGameState() == GameState.GAME_OVER) {
+            drawGameOverScreen(g, snapshot);
+        }
+        if (overlay != null && overlay.isVisible()) {
+            Rectangle overlayBounds = overlay.getBounds();
+            if (g.hitClip(overlayBounds.x, overlayBounds.y, overlayBounds.width, overlayBounds.height)) {
+                overlay.draw(g, snapshot);
+            }
+        }
+    }
+
+    // Drawn on top of the game field, must be used by the same thread as the renderer.
+    public void setOverlay(PerformanceOverlay overlay) {
+        this.overlay = overlay;
+    }
+
+    // The game field and the walls never change, so they are drawn once into images that
+    // start every frame. The images are only drawn again for another graphics configuration.
+    // Only the cut corners of the field are translucent, everything else is copied from an
+    // opaque image, which is much cheaper than blending the whole field.
+    private void drawStaticLayer(Graphics2D g, RenderSnapshot snapshot) {
+        GraphicsConfiguration configuration = g.getDeviceConfiguration();
+        if (staticLayer == null || configuration != staticLayerConfiguration) {
+            staticLayer = configuration.createCompatibleImage(size.width, size.height, Transparency.TRANSLUCENT);
+            staticLayerConfiguration = configuration;
+            Graphics2D layerGraphics = staticLayer.createGraphics();
+            layerGraphics.setRenderingHints(g.getRenderingHints());
+            layerGraphics.setColor(GameColors.GAME_FIELD);
+            layerGraphics.fillPolygon(gameFieldArea);
+            for (int i = 0; i < snapshot.getNumberOfGameObjects(); i++) {
+                GameObject object = snapshot.getGameObject(i);
+                if (object instanceof Wall) {
+                    object.draw(layerGraphics);
+                }
+            }
+            layerGraphics.dispose();
+            opaqueStaticLayer = configuration.createCompatibleImage(size.width, size.height, Transparency.OPAQUE);
+            Graphics2D opaqueGraphics = opaqueStaticLayer.createGraphics();
+            opaqueGraphics.drawImage(staticLayer, 0, 0, null);
+            opaqueGraphics.dispose();
+        }
+        int right = size.width - CORNER_SIZE;
+        int bottom = size.height - CORNER_SIZE;
+        drawStaticLayerPart(g, opaqueStaticLayer, CORNER_SIZE, 0, right, size.height);
+        drawStaticLayerPart(g, opaqueStaticLayer, 0, CORNER_SIZE, CORNER_SIZE, bottom);
+        drawStaticLayerPart(g, opaqueStaticLayer, right, CORNER_SIZE, size.width, bottom);
+        drawStaticLayerPart(g, staticLayer, 0, 0, CORNER_SIZE, CORNER_SIZE);
+        drawStaticLayerPart(g, staticLayer, right, 0, size.width, CORNER_SIZE);
+        drawStaticLayerPart(g, staticLayer, 0, bottom, CORNER_SIZE, size.height);
+        drawStaticLayerPart(g, staticLayer, right, bottom, size.width, size.height);
+    }
+
+    private void drawStaticLayerPart(Graphics2D g, BufferedImage layer, int x1, int y1, int x2, int y2) {
+        g.drawImage(layer, x1, y1, x2, y2, x1, y1, x2, y2, null);
+    }
+
+    // When only a region is repainted, objects outside of it are skipped.
+    private void drawObjectsAndAnimations(Graphics2D g, RenderSnapshot snapshot, double alpha) {
+        Rectangle clip = g.getClipBounds();
+        if (clip != null && clip.contains(0, 0, size.width, size.height)) {
+            clip = null;
+        }
+        for (int i = 0; i < snapshot.getNumberOfGameObjects(); i++) {
+            GameObject object = snapshot.getGameObject(i);
+            if (object instanceof Wall || object instanceof FireworkShow) {
+                continue;
+            }
+            if (object instanceof Movable) {
+                drawInterpolated(g, object, clip, alpha);
+            } else if (isInClip(object, clip, 0, 0)) {
+                object.draw(g);
+            }
+        }
+    }
+
+    private void drawInterpolated(Graphics2D g, GameObject object, Rectangle clip, double alpha) {
+        double offsetX = (object.getPreviousPosX() - object.getPosX()) * (1 - alpha);
+        double offsetY = (object.getPreviousPosY() - object.getPosY()) * (1 - alpha);
+        if (!isInClip(object, clip, offsetX, offsetY)) {
+            return;
+        }
+        if (offsetX == 0 && offsetY == 0) {
+            object.draw(g);
+        } else {
+            object.drawAt(g, object.getPosX() + offsetX, object.getPosY() + offsetY);
+        }
+    }
+
+    private boolean isInClip(GameObject object, Rectangle clip, double offsetX, double offsetY) {
+        if (clip == null) {
+            return true;
+        }
+        if (!object.getScreenBounds(objectBounds)) {
+            return true;
+        }
+        if (offsetX != 0 || offsetY != 0) {
+            objectBounds.translate((int) Math.floor(offsetX), (int) Math.floor(offsetY));
+            objectBounds.grow(1, 1);
+        }
+        return objectBounds.intersects(clip);
+    }
+
+    private void drawPlayer(Graphics2D g, RenderSnapshot snapshot, double alpha) {
+        drawInterpolated(g, snapshot.getPlayer(), null, alpha);
+    }
+
+    private void drawGameOverScreen(Graphics2D g, RenderSnapshot snapshot) {
+        g.setColor(GameColors.GAME_OVER_BACKGROUND);
+        g.fillPolygon(gameFieldArea);
+        for (int i = 0; i < snapshot.getNumberOfFireworkShows(); i++) {
+            snapshot.getFireworkShow(i).draw(g);
+        }
+        g.setColor(GameColors.GAME_OVER_TEXT);
+        g.setFont(POINTS_FONT);
+        GameLanguage gameLanguage = GameLanguage.getInstance();
+        String pointsSingularText = " " + gameLanguage.getString("points_singular");
+        String pointsPluralText = " " + gameLanguage.getString("points_plural");
+        int points = snapshot.getPoints();
+        String text = points + (points == 1 ? pointsSingularText : pointsPluralText);
+        g.drawString(text, size.width / 2 - g.getFontMetrics().stringWidth(text) / 2, size.height / 2);
+    }
+
+}
@@ -21,12 +21,10 @@ package game.gui;
 import game.*;
 import game.gameFieldObjects.*;
 
-import static game.GameConstants.GAME_TICK_LENGTH_MS;
+import static game.GameConstants.DEFAULT_FRAME_RATE;
 
 import java.awt.*;
 import java.awt.event.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import javax.swing.*;
@@ -48,14 +46,26 @@ public class GameWindow extends JFrame implements LanguageSwitcher {
 	private final GameButton btnSettings;
 	private final GameButton btnStart;
 	private final GamePanel gamePanel;
+	private final GameLoop gameLoop;
 	private int lives = 0;
+	private long shownTicks = 0;
 
 	public GameWindow() {
+		this(false);
+	}
+
+	public GameWindow(boolean activeRendering) {
+		this(activeRendering, LoopPolicy.CATCH_UP);
+	}
+
+	public GameWindow(boolean activeRendering, LoopPolicy loopPolicy) {
+		this(activeRendering, loopPolicy, false);
+	}
+
+	public GameWindow(boolean activeRendering, LoopPolicy loopPolicy, boolean interpolating) {
 		ImageIcon icon = new ImageIcon("icons/GameIcon.png");
 		setIconImage(icon.getImage());
 
-		final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-
 		KeyListener gameKeyListener = new KeyAdapter() {
 			@Override
 			public void keyPressed(KeyEvent e) {
@@ -75,6 +85,8 @@ public class GameWindow extends JFrame implements LanguageSwitcher {
 					gamePanel.setPlayerDMovement(true);
 				} else if (e.getKeyCode() == KeyEvent.VK_S) {
 					gamePanel.setPlayerSMovement(true);
+				} else if (e.getKeyCode() == KeyEvent.VK_F3) {
+					gamePanel.togglePerformanceOverlay();
 				} else if (e.getKeyCode() == KeyEvent.VK_ENTER) {
 					if (btnStart.hasFocus()) {
 						btnStart.doClick();
@@ -222,9 +234,17 @@ public class GameWindow extends JFrame implements LanguageSwitcher {
 					lblLivesText.highlight(false);
 				}
 				lblLivesText.setText(gameLanguage.getString("number_of_lives") + (lives = newLives));
+				// Updates are skipped while one is still queued, so the animations advance by
+				// the ticks since the last update.
+				long ticks = gamePanel.getTicks();
+				while (shownTicks < ticks) {
+					lblLivesText.run();
+					partyBallLabel.run();
+					shownTicks++;
+				}
 			}
 		};
-		gamePanel = new GamePanel(800, 400, finishedRunnable, updateRunnable);
+		gamePanel = new GamePanel(800, 400, finishedRunnable, updateRunnable, activeRendering, interpolating);
 		contentPane.add(gamePanel, BorderLayout.CENTER);
 		
 		btnStart = new GameButton(gameLanguage.getString("startbutton_text"));
@@ -236,13 +256,14 @@ public class GameWindow extends JFrame implements LanguageSwitcher {
 		btnStart.addKeyListener(gameKeyListener);
 		contentPane.add(btnStart, BorderLayout.SOUTH);
 
-		Runnable gameTickRunnable = () -> {
-			EventQueue.invokeLater(gamePanel);
-			EventQueue.invokeLater(lblLivesText);
-			EventQueue.invokeLater(partyBallLabel);
-		};
-
-		scheduler.scheduleAtFixedRate(gameTickRunnable, 0, GAME_TICK_LENGTH_MS, TimeUnit.MILLISECONDS);
+		gameLoop = new GameLoop(
+				TickRate.get().getTickLengthNanos(),
+				gamePanel,
+				gamePanel::render,
+				loopPolicy,
+				interpolating ? getFrameLengthNanos() : 0
+		);
+		gameLoop.start();
 		
 		pack();
 		setLocationRelativeTo(null);
@@ -253,6 +274,15 @@ public class GameWindow extends JFrame implements LanguageSwitcher {
     	gameLanguage.register(this);
 	}
 	
+	// Interpolated frames follow the refresh rate of the screen.
+	private long getFrameLengthNanos() {
+		int refreshRate = getGraphicsConfiguration().getDevice().getDisplayMode().getRefreshRate();
+		if (refreshRate == DisplayMode.REFRESH_RATE_UNKNOWN) {
+			refreshRate = DEFAULT_FRAME_RATE;
+		}
+		return TimeUnit.SECONDS.toNanos(1) / refreshRate;
+	}
+	
 	private void showLooseColors() {
 		contentPane.showLooseColors();
 		statusBar.setBackground(GameColors.LOOSE);
@@ -0,0 +1,268 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game.gui;
+
+import static game.GameConstants.*;
+
+import game.*;
+import game.TickProfiler.Phase;
+import game.animations.Animation;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+// Live measurements drawn over the game field, switched on and off with F3. The numbers are
+// collected every half second into arrays allocated up front and drawn from there, so the
+// overlay doesn't create garbage that would show up in its own measurements. It is only used
+// by the thread that paints the game field.
+public class PerformanceOverlay {
+
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+    private static final int PADDING = 6;
+    private static final int LINE_HEIGHT = 13;
+    private static final int MAX_LINES = 24;
+    private static final int LINE_LENGTH = 44;
+    private static final int MAX_OBJECT_TYPES = 16;
+    private static final int WIDTH = 280;
+    private static final int GRAPH_HEIGHT = 40;
+    private static final Phase[] PHASES = Phase.values();
+
+    private final TickProfiler profiler = TickProfiler.getInstance();
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Rectangle bounds;
+    private volatile boolean visible;
+    private final float tickMillis = TickRate.get().getTickLengthNanos() / 1_000_000f;
+    // The top of the graph stands for this frame time, longer frames are cut off.
+    private final float graphMaxMillis = 4 * tickMillis;
+
+    private final char[][] lines = new char[MAX_LINES][LINE_LENGTH];
+    private final int[] lineLengths = new int[MAX_LINES];
+    private final char[] digits = new char[20];
+    private int numberOfLines;
+
+    // One bar of the graph per frame, the oldest one is overwritten.
+    private final float[] frameMillis = new float[WIDTH - 2 * PADDING];
+    private int nextFrame;
+    private long lastFrameNanos;
+
+    private final long[][] previousPhaseCounts = new long[PHASES.length][PhaseHistogram.getNumberOfBuckets()];
+    private final long[] intervalCounts = new long[PhaseHistogram.getNumberOfBuckets()];
+    private final Class<?>[] objectTypes = new Class<?>[MAX_OBJECT_TYPES];
+    private final int[] objectTypeCounts = new int[MAX_OBJECT_TYPES];
+
+    private long lastSampleNanos;
+    private int framesSinceSample;
+    private long lastTicks;
+    private long lastGameLoopAllocatedBytes;
+    private long lastPaintAllocatedBytes;
+    private volatile long gameLoopThreadId = -1;
+
+    public PerformanceOverlay(int x, int y) {
+        bounds = new Rectangle(x, y, WIDTH, 2 * PADDING + MAX_LINES * LINE_HEIGHT + PADDING + GRAPH_HEIGHT);
+    }
+
+    public void toggle() {
+        visible = !visible;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
+    public void setGameLoopThread(Thread thread) {
+        gameLoopThreadId = thread.getId();
+    }
+
+    // Called once for every frame that shows a new snapshot.
+    public void frameShown() {
+        long now = System.nanoTime();
+        if (lastFrameNanos != 0) {
+            frameMillis[nextFrame] = (now - lastFrameNanos) / 1_000_000f;
+            nextFrame = (nextFrame + 1) % frameMillis.length;
+        }
+        lastFrameNanos = now;
+        framesSinceSample++;
+    }
+
+    public void draw(Graphics2D g, RenderSnapshot snapshot) {
+        long now = System.nanoTime();
+        long sampleNanos = now - lastSampleNanos;
+        if (sampleNanos >= TimeUnit.MILLISECONDS.toNanos(OVERLAY_SAMPLE_INTERVAL_MS)) {
+            sample(snapshot, sampleNanos);
+            lastSampleNanos = now;
+        }
+        g.setColor(GameColors.OVERLAY_BACKGROUND);
+        g.fillRect(bounds.x, bounds.y, bounds.width, bounds.height);
+        g.setFont(FONT);
+        g.setColor(GameColors.OVERLAY_TEXT);
+        for (int i = 0; i < numberOfLines; i++) {
+            g.drawChars(lines[i], 0, lineLengths[i], bounds.x + PADDING, bounds.y + PADDING + (i + 1) * LINE_HEIGHT - 3);
+        }
+        drawFrameGraph(g);
+    }
+
+    // Newest frame on the right, the line marks the length of a game tick.
+    private void drawFrameGraph(Graphics2D g) {
+        int left = bounds.x + PADDING;
+        int bottom = bounds.y + bounds.height - PADDING;
+        for (int i = 0; i < frameMillis.length; i++) {
+            float millis = frameMillis[(nextFrame + i) % frameMillis.length];
+            int height = Math.round(Math.min(millis, graphMaxMillis) / graphMaxMillis * GRAPH_HEIGHT);
+            g.setColor(millis > 2 * tickMillis ? GameColors.OVERLAY_SLOW_FRAME : GameColors.OVERLAY_FRAME);
+            g.drawLine(left + i, bottom, left + i, bottom - height);
+        }
+        int budget = bottom - Math.round(tickMillis / graphMaxMillis * GRAPH_HEIGHT);
+        g.setColor(GameColors.OVERLAY_BUDGET);
+        g.drawLine(left, budget, left + frameMillis.length - 1, budget);
+    }
+
+    private void sample(RenderSnapshot snapshot, long sampleNanos) {
+        double seconds = sampleNanos / 1e9;
+        numberOfLines = 0;
+        lineLengths[0] = 0;
+
+        long ticks = profiler.getTicks();
+        long newTicks = ticks >= lastTicks ? ticks - lastTicks : ticks;
+        lastTicks = ticks;
+        append("FPS ").append(Math.round(framesSinceSample / seconds))
+                .append("  Ticks/s ").append(Math.round(newTicks / seconds))
+                .append("  Late ").append(profiler.getOverruns())
+                .append("  Dropped ").append(profiler.getMissedTicks()).endLine();
+        framesSinceSample = 0;
+
+        int animations = countObjectTypes(snapshot);
+        append("Objects ").append(snapshot.getNumberOfGameObjects())
+                .append("  Animations ").append(animations)
+                .append("  Voices ").append(GameSounds.getInstance().getNumberOfPlayingVoices()).endLine();
+
+        long paintAllocatedBytes = threadBean.getCurrentThreadAllocatedBytes();
+        append("Alloc KB/s paint ").append(Math.round((paintAllocatedBytes - lastPaintAllocatedBytes) / 1024.0 / seconds));
+        lastPaintAllocatedBytes = paintAllocatedBytes;
+        long threadId = gameLoopThreadId;
+        if (threadId != -1 && threadId != Thread.currentThread().getId()) {
+            long gameLoopAllocatedBytes = threadBean.getThreadAllocatedBytes(threadId);
+            append(" loop ").append(Math.round((gameLoopAllocatedBytes - lastGameLoopAllocatedBytes) / 1024.0 / seconds));
+            lastGameLoopAllocatedBytes = gameLoopAllocatedBytes;
+        }
+        endLine();
+
+        appendPadded("Phase (us)", 17).append("    p50    max").endLine();
+        for (int i = 0; i < PHASES.length; i++) {
+            long count = profiler.readInterval(PHASES[i], previousPhaseCounts[i], intervalCounts);
+            appendPadded(PHASES[i].name(), 17);
+            appendPadded(count == 0 ? 0 : PhaseHistogram.getPercentile(intervalCounts, count, 50) / 1000, 7);
+            appendPadded(count == 0 ? 0 : PhaseHistogram.getPercentile(intervalCounts, count, 100) / 1000, 7);
+            endLine();
+        }
+
+        for (int i = 0; i < objectTypes.length && objectTypes[i] != null; i++) {
+            if (objectTypeCounts[i] > 0) {
+                appendPadded(objectTypes[i].getSimpleName(), 17).appendPadded(objectTypeCounts[i], 7).endLine();
+            }
+        }
+    }
+
+    // Counts the objects by class into the prepared arrays and returns the number of animations.
+    private int countObjectTypes(RenderSnapshot snapshot) {
+        int animations = 0;
+        for (int i = 0; i < objectTypeCounts.length; i++) {
+            objectTypeCounts[i] = 0;
+        }
+        for (int i = 0; i < snapshot.getNumberOfGameObjects(); i++) {
+            GameObject object = snapshot.getGameObject(i);
+            if (object instanceof Animation) {
+                animations++;
+            }
+            Class<?> type = object.getClass();
+            for (int j = 0; j < objectTypes.length; j++) {
+                if (objectTypes[j] == null) {
+                    objectTypes[j] = type;
+                }
+                if (objectTypes[j] == type) {
+                    objectTypeCounts[j]++;
+                    break;
+                }
+            }
+        }
+        return animations;
+    }
+
+    // The lines are written character by character into their arrays, the methods return the
+    // overlay so the parts of a line can be chained.
+    private PerformanceOverlay append(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            appendChar(text.charAt(i));
+        }
+        return this;
+    }
+
+    private PerformanceOverlay append(long value) {
+        return appendPadded(value, 0);
+    }
+
+    private PerformanceOverlay appendPadded(long value, int width) {
+        long remaining = Math.abs(value);
+        int numberOfDigits = 0;
+        do {
+            digits[numberOfDigits++] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (value < 0) {
+            digits[numberOfDigits++] = '-';
+        }
+        for (int i = numberOfDigits; i < width; i++) {
+            appendChar(' ');
+        }
+        while (numberOfDigits > 0) {
+            appendChar(digits[--numberOfDigits]);
+        }
+        return this;
+    }
+
+    private PerformanceOverlay appendPadded(String text, int width) {
+        append(text);
+        for (int i = text.length(); i < width; i++) {
+            appendChar(' ');
+        }
+        return this;
+    }
+
+    private void appendChar(char character) {
+        if (numberOfLines < MAX_LINES && lineLengths[numberOfLines] < LINE_LENGTH) {
+            lines[numberOfLines][lineLengths[numberOfLines]++] = character;
+        }
+    }
+
+    private void endLine() {
+        if (numberOfLines < MAX_LINES) {
+            numberOfLines++;
+            if (numberOfLines < MAX_LINES) {
+                lineLengths[numberOfLines] = 0;
+            }
+        }
+    }
+
+}
@@ -18,6 +18,7 @@
 
 package game.gui;
 
+import game.TickRate;
 import game.gameFieldObjects.GameBall;
 import game.gameFieldObjects.MulticolorBall;
 
@@ -41,9 +42,9 @@ public class SpecialBallLabel extends StatusbarLabel implements Runnable {
 	
 	@Override
 	public void run() {
-		ball.animate(1);
+		// Runs once per tick, like the status bar updates.
+		ball.animate(TickRate.get().getTickScale());
 		ballColor = ball.getColor();
-		revalidate();
 		repaint();
 	}
 
@@ -21,6 +21,7 @@ package game.gui;
 import static game.GameConstants.*;
 
 import game.GameColors;
+import game.TickRate;
 
 import java.awt.*;
 
@@ -45,10 +46,9 @@ public class StatusbarLabel extends JLabel implements Runnable {
 	public void run() {
 		if (isHighlighted) {
 			highlightCounter++;
-			if (highlightCounter == HIGHLIGHT_GAME_TICKS) {
+			if (highlightCounter >= TickRate.get().toTicks(HIGHLIGHT_GAME_TICKS)) {
 				isHighlighted = false;
 			}
-			revalidate();
 			repaint();
 		}
 	}
@@ -62,7 +62,7 @@ public class StatusbarLabel extends JLabel implements Runnable {
 		));
 		Paint oldPaint = graphics2D.getPaint();
 		Color color;
-		double fadePercent = (double) highlightCounter / HIGHLIGHT_GAME_TICKS;
+		double fadePercent = (double) highlightCounter / TickRate.get().toTicks(HIGHLIGHT_GAME_TICKS);
 		if (isHighlighted && highlightPositive) {
 			color = GameColors.getHighlightFadeColor(fadePercent, GameColors.HIGHLIGHT_POSITIVE, getBackgroundColor());
 		} else if (isHighlighted) {
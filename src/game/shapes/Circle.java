@@ -18,11 +18,14 @@
 
 package game.shapes;
 
+import java.awt.geom.Rectangle2D;
+
 public class Circle extends GameShape {
 
     private double radius;
 
     public Circle(double radius) {
+        super(ShapeKind.CIRCLE);
         this.radius = radius;
     }
 
@@ -36,6 +39,11 @@ public class Circle extends GameShape {
         return radius * 2.0;
     }
 
+    @Override
+    public void setBounds(Rectangle2D bounds, double posX, double posY) {
+        bounds.setRect(posX - radius, posY - radius, radius * 2.0, radius * 2.0);
+    }
+
     public double getRadius() {
         return radius;
     }
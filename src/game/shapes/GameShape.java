@@ -18,10 +18,24 @@
 
 package game.shapes;
 
+import java.awt.geom.Rectangle2D;
+
 public abstract class GameShape {
 
+    private final ShapeKind kind;
+
+    protected GameShape(ShapeKind kind) {
+        this.kind = kind;
+    }
+
+    public final ShapeKind getKind() {
+        return kind;
+    }
+
     public abstract double getSize();
 
+    public abstract void setBounds(Rectangle2D bounds, double posX, double posY);
+
     public abstract GameShape getCopy();
 
 }
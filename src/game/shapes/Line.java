@@ -21,6 +21,7 @@ package game.shapes;
 import game.CircleAngle;
 
 import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
 
 public class Line extends GameShape {
 
@@ -28,6 +29,7 @@ public class Line extends GameShape {
     private final CircleAngle angle;
 
     public Line(double length, CircleAngle angle) {
+        super(ShapeKind.LINE);
         this.length = length;
         this.angle = angle;
     }
@@ -49,11 +51,18 @@ public class Line extends GameShape {
         return length / 2.0;
     }
 
+    @Override
+    public void setBounds(Rectangle2D bounds, double posX, double posY) {
+        double secondPointX = posX + Math.cos(angle.get()) * length;
+        double secondPointY = posY + Math.sin(angle.get()) * length;
+        bounds.setFrameFromDiagonal(posX, posY, secondPointX, secondPointY);
+    }
+
     public double getLength() {
     	return length;
     }
     
     public CircleAngle getAngle() {
-    	return new CircleAngle(angle.get());
+    	return angle;
     }
 }
@@ -18,11 +18,14 @@
 
 package game.shapes;
 
+import java.awt.geom.Rectangle2D;
+
 public class Square extends GameShape {
 
     private final double sideLength;
 
     public Square(double sideLength) {
+        super(ShapeKind.SQUARE);
         this.sideLength = sideLength;
     }
 
@@ -36,6 +39,11 @@ public class Square extends GameShape {
         return sideLength;
     }
 
+    @Override
+    public void setBounds(Rectangle2D bounds, double posX, double posY) {
+        bounds.setRect(posX - sideLength / 2.0, posY - sideLength / 2.0, sideLength, sideLength);
+    }
+
     public double getSideLength() {
         return sideLength;
     }
@@ -0,0 +1,138 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// Runs the steady state of the game (nothing spawns, nothing gets destroyed) without a display
+// and checks that the ticks of the game loop don't allocate anything. Memory allocated per
+// tick turns into garbage collections, which are visible as stutter. A tick does the same as
+// GamePanel.run: the simulation step, the sounds and the snapshot for the painting.
+class AllocationBudgetTest {
+
+    private static final int NUMBER_OF_BALLS = 100;
+    private static final int WARMUP_TICKS = 20_000;
+    private static final int RESTART_WARMUP_TICKS = 100;
+    private static final int MEASURED_TICKS = 10_000;
+    private static final int TICKS_PER_PLAYER_DIRECTION = 150;
+    // The JIT compiler occasionally charges a few hundred bytes to the thread when it
+    // recompiles a method, so a measurement that found some is repeated.
+    private static final int MEASUREMENTS = 3;
+
+    private final com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final GameSounds gameSounds = GameSounds.getInstance();
+    private final GameEventListener eventListener = new GameEventListener() {
+        @Override
+        public void playSound(int soundType) {
+            gameSounds.playSound(soundType);
+        }
+    };
+    private final RenderSnapshot[] snapshots = new RenderSnapshot[RenderSnapshot.NUMBER_OF_BUFFERS];
+
+    @BeforeEach
+    void enableAllocationMeasuring() {
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "The JVM can't measure the allocations of a thread");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        for (int i = 0; i < snapshots.length; i++) {
+            snapshots[i] = new RenderSnapshot(i);
+        }
+    }
+
+    @Test
+    void ballTicksDontAllocate() {
+        assertEquals(0, measure(() -> {
+            GameSimulation simulation = new GameSimulation(800, 400, eventListener);
+            simulation.setupStressTest(NUMBER_OF_BALLS);
+            return simulation;
+        }), "Bytes allocated by the ticks with balls");
+    }
+
+    @Test
+    void playerTicksDontAllocate() {
+        assertEquals(0, measure(() -> {
+            GameSimulation simulation = new GameSimulation(800, 400, eventListener);
+            simulation.setSpawning(false);
+            simulation.setupNewGame();
+            // The new game starts with the first tick.
+            simulation.step();
+            return simulation;
+        }), "Bytes allocated by the ticks with the player");
+    }
+
+    private long measure(Supplier<GameSimulation> scenario) {
+        long allocatedBytes = Long.MAX_VALUE;
+        for (int i = 0; i < MEASUREMENTS && allocatedBytes > 0; i++) {
+            allocatedBytes = Math.min(allocatedBytes, measureOnce(scenario));
+        }
+        return allocatedBytes;
+    }
+
+    // Only ticks in which no object gets removed count as steady state. Such a tick allocates
+    // the destroy animations, so the scenario starts again after it.
+    private long measureOnce(Supplier<GameSimulation> scenario) {
+        GameSimulation simulation = scenario.get();
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            tick(simulation, i);
+        }
+        long allocatedBytes = 0;
+        int measuredTicks = 0;
+        for (int tick = 0; measuredTicks < MEASURED_TICKS; tick++) {
+            int numberOfObjects = simulation.getNumberOfGameObjects();
+            long numberOfRemovedObjects = simulation.getNumberOfRemovedObjects();
+            long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+            tick(simulation, tick);
+            long allocatedAfter = threadBean.getCurrentThreadAllocatedBytes();
+            if (simulation.getNumberOfGameObjects() == numberOfObjects
+                    && simulation.getNumberOfRemovedObjects() == numberOfRemovedObjects
+                    && simulation.getGameState() != GameState.GAME_OVER) {
+                allocatedBytes += allocatedAfter - allocatedBefore;
+                measuredTicks++;
+            } else {
+                simulation = scenario.get();
+                // The first ticks of a new simulation grow the collision grid and give the
+                // objects their snapshot copies.
+                for (int i = 0; i < RESTART_WARMUP_TICKS; i++) {
+                    tick(simulation, i);
+                }
+            }
+        }
+        return allocatedBytes;
+    }
+
+    // Moves the player around the field, so it keeps running into the walls. The snapshots
+    // take turns like in the game panel while the painting keeps up.
+    private void tick(GameSimulation simulation, int tick) {
+        int direction = tick / TICKS_PER_PLAYER_DIRECTION % 8;
+        simulation.setPlayerLeftMovement(direction == 0 || direction == 1 || direction == 7);
+        simulation.setPlayerTopMovement(direction == 1 || direction == 2 || direction == 3);
+        simulation.setPlayerRightMovement(direction == 3 || direction == 4 || direction == 5);
+        simulation.setPlayerBottomMovement(direction == 5 || direction == 6 || direction == 7);
+        simulation.step();
+        gameSounds.dispatchRequestedSounds();
+        simulation.updateSnapshot(snapshots[tick % snapshots.length]);
+    }
+
+}
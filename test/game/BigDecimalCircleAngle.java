@@ -0,0 +1,138 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package game;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static game.Helpers.*;
+
+// CircleAngle as it was before it stored its angle as a double. Only the name is changed, so
+// CircleAngleTest can compare the two. It never had a hashCode.
+@SuppressWarnings("overrides")
+final class BigDecimalCircleAngle {
+
+	private static final BigDecimal BIG_PI = new BigDecimal(Math.PI);
+	public static final BigDecimalCircleAngle DEGREE_0 = new BigDecimalCircleAngle(0);
+	public static final BigDecimalCircleAngle DEGREE_45 = new BigDecimalCircleAngle(BIG_PI.multiply(new BigDecimal("0.25")));
+	public static final BigDecimalCircleAngle DEGREE_90 = new BigDecimalCircleAngle(BIG_PI.multiply(new BigDecimal("0.5")));
+	public static final BigDecimalCircleAngle DEGREE_135 = new BigDecimalCircleAngle(BIG_PI.multiply(new BigDecimal("0.75")));
+	public static final BigDecimalCircleAngle DEGREE_180 = new BigDecimalCircleAngle(BIG_PI);
+	public static final BigDecimalCircleAngle DEGREE_225 = new BigDecimalCircleAngle(BIG_PI.multiply(new BigDecimal("1.25")));
+	public static final BigDecimalCircleAngle DEGREE_270 = new BigDecimalCircleAngle(BIG_PI.multiply(new BigDecimal("1.5")));
+	public static final BigDecimalCircleAngle DEGREE_315 = new BigDecimalCircleAngle(BIG_PI.multiply(new BigDecimal("1.75")));
+	
+	private final BigDecimal angle;
+	
+	public BigDecimalCircleAngle() {
+		this.angle = new BigDecimal(0);
+	}
+	
+	public BigDecimalCircleAngle(double angle) {
+		this.angle = getAngleInRange(new BigDecimal(angle));
+	}
+
+	public BigDecimalCircleAngle(BigDecimal angle) {
+		this.angle = getAngleInRange(angle);
+	}
+	
+	public static BigDecimalCircleAngle smallerAngleBetween(BigDecimalCircleAngle angle, BigDecimalCircleAngle otherAngle) {
+		double difference = Math.abs(angle.get() - otherAngle.get());
+		if (difference > DEGREE_180.get()) {
+			difference = -difference;
+		}
+		return new BigDecimalCircleAngle(difference);
+	}
+
+	public static BigDecimalCircleAngle oppositeAngle(BigDecimalCircleAngle angle) {
+		return angle.add(DEGREE_180);
+	}
+
+	public static BigDecimalCircleAngle randomAngle() {
+		return new BigDecimalCircleAngle(RANDOM.nextDouble(Math.PI * 2));
+	}
+
+	public BigDecimalCircleAngle add(BigDecimalCircleAngle otherAngle) {
+		return new BigDecimalCircleAngle(angle.add(otherAngle.getBigDecimalValue()));
+	}
+
+	public BigDecimalCircleAngle subtract(BigDecimalCircleAngle otherAngle) {
+		return new BigDecimalCircleAngle(angle.subtract(otherAngle.getBigDecimalValue()));
+	}
+
+	public BigDecimalCircleAngle multiply(double multiplier) {
+		return new BigDecimalCircleAngle(angle.multiply(new BigDecimal(multiplier)));
+	}
+
+	public BigDecimalCircleAngle divide(double divisor) {
+		return new BigDecimalCircleAngle(angle.divide(new BigDecimal(divisor), 50, RoundingMode.HALF_UP));
+	}
+
+	public boolean isBetween(BigDecimalCircleAngle firstAngle, BigDecimalCircleAngle secondAngle) {
+		if (firstAngle.get() >= secondAngle.get()) {
+			BigDecimal fullAngle = BIG_PI.multiply(new BigDecimal("2"));
+			double lowestAngle = 0.0;
+			return (angle.doubleValue() > firstAngle.get() && angle.doubleValue() <= fullAngle.doubleValue())
+					|| (angle.doubleValue() >= lowestAngle && angle.doubleValue() < secondAngle.get());
+		} else {
+			return angle.doubleValue() > firstAngle.get() && angle.doubleValue() < secondAngle.get();
+		}
+	}
+
+	public boolean isBetweenOrEqual(BigDecimalCircleAngle firstAngle, BigDecimalCircleAngle secondAngle) {
+		if (firstAngle.get() >= secondAngle.get()) {
+			BigDecimal fullAngle = BIG_PI.multiply(new BigDecimal("2"));
+			double lowestAngle = 0.0;
+			return (angle.doubleValue() >= firstAngle.get() && angle.doubleValue() <= fullAngle.doubleValue())
+					|| (angle.doubleValue() >= lowestAngle && angle.doubleValue() <= secondAngle.get());
+		} else {
+			return angle.doubleValue() >= firstAngle.get() && angle.doubleValue() <= secondAngle.get();
+		}
+	}
+
+	private BigDecimal getAngleInRange(BigDecimal angle) {
+		BigDecimal degree360 = new BigDecimal(Math.PI).multiply(new BigDecimal("2"));
+		BigDecimal remainderAngle = angle.remainder(degree360);
+		if (angle.compareTo(new BigDecimal("0")) < 0) {
+			return degree360.subtract(remainderAngle.abs());
+		} else {
+			return remainderAngle;
+		}
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) {
+			return true;
+		} else if (this.getClass() != object.getClass()) {
+			return false;
+		}
+		BigDecimalCircleAngle other = (BigDecimalCircleAngle) object;
+		return this.getBigDecimalValue().compareTo(other.getBigDecimalValue()) == 0;
+	}
+	
+	public double get() {
+		return angle.doubleValue();
+	}
+
+	private BigDecimal getBigDecimalValue() {
+		return angle;
+	}
+
+}
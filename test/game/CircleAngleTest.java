@@ -0,0 +1,242 @@
+/*
+ * Dotger - A game where you have to dodge objects.
+ * Copyright (C) 2023  Michael Pütz
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package game;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+// Compares CircleAngle with the BigDecimal implementation it replaced. Both reduce exact
+// remainders, but sums, products and quotients are rounded differently, so the angles may
+// differ by TOLERANCE. An angle close to the full angle and one close to 0 are close as well.
+class CircleAngleTest {
+
+    private static final double TOLERANCE = 1e-12;
+    private static final double FULL_ANGLE = Math.PI * 2;
+    private static final int RANDOM_ANGLES = 2000;
+
+    private static final double[] EDGE_ANGLES = {
+            0.0,
+            -0.0,
+            Double.MIN_VALUE,
+            -Double.MIN_VALUE,
+            1e-12,
+            -1e-12,
+            Math.PI,
+            -Math.PI,
+            Math.nextDown(Math.PI),
+            Math.nextUp(Math.PI),
+            FULL_ANGLE,
+            -FULL_ANGLE,
+            Math.nextDown(FULL_ANGLE),
+            Math.nextUp(FULL_ANGLE),
+            -Math.nextDown(FULL_ANGLE),
+            -Math.nextUp(FULL_ANGLE),
+            FULL_ANGLE - 1e-12,
+            FULL_ANGLE + 1e-12,
+            3 * FULL_ANGLE,
+            -3 * FULL_ANGLE,
+            3 * FULL_ANGLE - 1e-9,
+            -3 * FULL_ANGLE + 1e-9,
+            Math.PI * 0.25,
+            Math.PI * 0.5,
+            Math.PI * 1.5,
+            Math.PI * 1.75,
+            1e6,
+            -1e6
+    };
+
+    @Test
+    void constructorKeepsAngleInRange() {
+        for (double angle : getAngles(1)) {
+            double expected = new BigDecimalCircleAngle(angle).get();
+            double actual = new CircleAngle(angle).get();
+            assertSameAngle(expected, actual, "new CircleAngle(" + angle + ")");
+            assertTrue(actual >= 0 && actual <= FULL_ANGLE, "new CircleAngle(" + angle + ") = " + actual);
+        }
+    }
+
+    @Test
+    void constantsMatch() {
+        assertSameAngle(BigDecimalCircleAngle.DEGREE_0.get(), CircleAngle.DEGREE_0.get(), "DEGREE_0");
+        assertSameAngle(BigDecimalCircleAngle.DEGREE_45.get(), CircleAngle.DEGREE_45.get(), "DEGREE_45");
+        assertSameAngle(BigDecimalCircleAngle.DEGREE_90.get(), CircleAngle.DEGREE_90.get(), "DEGREE_90");
+        assertSameAngle(BigDecimalCircleAngle.DEGREE_135.get(), CircleAngle.DEGREE_135.get(), "DEGREE_135");
+        assertSameAngle(BigDecimalCircleAngle.DEGREE_180.get(), CircleAngle.DEGREE_180.get(), "DEGREE_180");
+        assertSameAngle(BigDecimalCircleAngle.DEGREE_225.get(), CircleAngle.DEGREE_225.get(), "DEGREE_225");
+        assertSameAngle(BigDecimalCircleAngle.DEGREE_270.get(), CircleAngle.DEGREE_270.get(), "DEGREE_270");
+        assertSameAngle(BigDecimalCircleAngle.DEGREE_315.get(), CircleAngle.DEGREE_315.get(), "DEGREE_315");
+    }
+
+    @Test
+    void oppositeAngleMatches() {
+        for (double angle : getAngles(2)) {
+            double expected = BigDecimalCircleAngle.oppositeAngle(new BigDecimalCircleAngle(angle)).get();
+            String description = "oppositeAngle(" + angle + ")";
+            assertSameAngle(expected, CircleAngle.oppositeAngle(new CircleAngle(angle)).get(), description);
+            assertSameAngle(expected, CircleAngle.oppositeAngle(CircleAngle.getAngleInRange(angle)), description);
+        }
+    }
+
+    @Test
+    void smallerAngleBetweenMatches() {
+        List<Double> angles = getAngles(3);
+        List<Double> otherAngles = getAngles(4);
+        for (int i = 0; i < angles.size(); i++) {
+            double angle = angles.get(i);
+            double otherAngle = otherAngles.get(i);
+            double expected = BigDecimalCircleAngle.smallerAngleBetween(
+                    new BigDecimalCircleAngle(angle), new BigDecimalCircleAngle(otherAngle)).get();
+            String description = "smallerAngleBetween(" + angle + ", " + otherAngle + ")";
+            assertSameAngle(expected, CircleAngle.smallerAngleBetween(
+                    new CircleAngle(angle), new CircleAngle(otherAngle)).get(), description);
+            assertSameAngle(expected, CircleAngle.smallerAngleBetween(
+                    CircleAngle.getAngleInRange(angle), CircleAngle.getAngleInRange(otherAngle)), description);
+        }
+    }
+
+    @Test
+    void addAndSubtractWrapAround() {
+        List<Double> angles = getAngles(5);
+        List<Double> otherAngles = getAngles(6);
+        for (int i = 0; i < angles.size(); i++) {
+            BigDecimalCircleAngle expectedAngle = new BigDecimalCircleAngle(angles.get(i));
+            BigDecimalCircleAngle expectedOtherAngle = new BigDecimalCircleAngle(otherAngles.get(i));
+            CircleAngle angle = new CircleAngle(angles.get(i));
+            CircleAngle otherAngle = new CircleAngle(otherAngles.get(i));
+            String description = angles.get(i) + " and " + otherAngles.get(i);
+
+            double expectedSum = expectedAngle.add(expectedOtherAngle).get();
+            assertSameAngle(expectedSum, angle.add(otherAngle).get(), "add " + description);
+            assertSameAngle(expectedSum, CircleAngle.add(angle.get(), otherAngle.get()), "add " + description);
+
+            double expectedDifference = expectedAngle.subtract(expectedOtherAngle).get();
+            assertSameAngle(expectedDifference, angle.subtract(otherAngle).get(), "subtract " + description);
+            assertSameAngle(expectedDifference, CircleAngle.subtract(angle.get(), otherAngle.get()),
+                    "subtract " + description);
+        }
+    }
+
+    @Test
+    void multiplyAndDivideMatch() {
+        Random random = new Random(7);
+        for (double angle : getAngles(7)) {
+            double factor = random.nextBoolean() ? random.nextDouble(-4, 4) : random.nextInt(-3, 4);
+            if (factor == 0) {
+                factor = 1;
+            }
+            BigDecimalCircleAngle expectedAngle = new BigDecimalCircleAngle(angle);
+            CircleAngle circleAngle = new CircleAngle(angle);
+            String description = angle + " by " + factor;
+
+            double expectedProduct = expectedAngle.multiply(factor).get();
+            assertSameAngle(expectedProduct, circleAngle.multiply(factor).get(), "multiply " + description);
+            assertSameAngle(expectedProduct, CircleAngle.multiply(circleAngle.get(), factor), "multiply " + description);
+
+            double expectedQuotient = expectedAngle.divide(factor).get();
+            assertSameAngle(expectedQuotient, circleAngle.divide(factor).get(), "divide " + description);
+            assertSameAngle(expectedQuotient, CircleAngle.divide(circleAngle.get(), factor), "divide " + description);
+        }
+    }
+
+    // The bounds are compared exactly, so the angles are only built from the same doubles.
+    @Test
+    void isBetweenMatches() {
+        List<Double> angles = getAngles(8);
+        List<Double> firstAngles = getAngles(9);
+        List<Double> secondAngles = getAngles(10);
+        for (int i = 0; i < angles.size(); i++) {
+            double[] testedAngles = {angles.get(i), firstAngles.get(i), secondAngles.get(i)};
+            for (double angle : testedAngles) {
+                BigDecimalCircleAngle expectedAngle = new BigDecimalCircleAngle(angle);
+                BigDecimalCircleAngle expectedFirstAngle = new BigDecimalCircleAngle(firstAngles.get(i));
+                BigDecimalCircleAngle expectedSecondAngle = new BigDecimalCircleAngle(secondAngles.get(i));
+                CircleAngle circleAngle = new CircleAngle(angle);
+                CircleAngle firstAngle = new CircleAngle(firstAngles.get(i));
+                CircleAngle secondAngle = new CircleAngle(secondAngles.get(i));
+                String description = angle + " between " + firstAngles.get(i) + " and " + secondAngles.get(i);
+
+                assertEquals(expectedAngle.isBetween(expectedFirstAngle, expectedSecondAngle),
+                        circleAngle.isBetween(firstAngle, secondAngle), description);
+                assertEquals(expectedAngle.isBetweenOrEqual(expectedFirstAngle, expectedSecondAngle),
+                        circleAngle.isBetweenOrEqual(firstAngle, secondAngle), "or equal " + description);
+            }
+        }
+    }
+
+    @Test
+    void valueOfMatchesConstructorAndIsCached() {
+        for (double angle : getAngles(11)) {
+            CircleAngle cachedAngle = CircleAngle.valueOf(angle);
+            String description = "valueOf(" + angle + ")";
+            assertSameAngle(new BigDecimalCircleAngle(angle).get(), cachedAngle.get(), description);
+            assertEquals(new CircleAngle(angle), cachedAngle, description);
+            assertEquals(new CircleAngle(angle).hashCode(), cachedAngle.hashCode(), description);
+            assertSame(cachedAngle, CircleAngle.valueOf(angle), description);
+        }
+    }
+
+    // The BigDecimal angles kept digits a double can't hold, so angles that differed only in
+    // those digits are equal now.
+    @Test
+    void equalsMatchesRoundedAngles() {
+        List<Double> angles = getAngles(12);
+        List<Double> otherAngles = getAngles(13);
+        for (int i = 0; i < angles.size(); i++) {
+            double angle = angles.get(i);
+            double otherAngle = i % 2 == 0 ? otherAngles.get(i) : angle + 3 * FULL_ANGLE;
+            BigDecimalCircleAngle expectedAngle = new BigDecimalCircleAngle(angle);
+            BigDecimalCircleAngle expectedOtherAngle = new BigDecimalCircleAngle(otherAngle);
+            boolean equal = new CircleAngle(angle).equals(new CircleAngle(otherAngle));
+            String description = angle + " equals " + otherAngle;
+            assertEquals(expectedAngle.get() == expectedOtherAngle.get(), equal, description);
+            if (expectedAngle.equals(expectedOtherAngle)) {
+                assertTrue(equal, description);
+            }
+        }
+    }
+
+    // The edge angles followed by random angles, a third of them close to a multiple of the
+    // full angle.
+    private static List<Double> getAngles(long seed) {
+        Random random = new Random(seed);
+        List<Double> angles = new ArrayList<>();
+        for (double angle : EDGE_ANGLES) {
+            angles.add(angle);
+        }
+        for (int i = 0; i < RANDOM_ANGLES; i++) {
+            if (i % 3 == 0) {
+                angles.add(random.nextInt(-3, 4) * FULL_ANGLE + random.nextDouble(-1e-9, 1e-9));
+            } else {
+                angles.add(random.nextDouble(-10 * FULL_ANGLE, 10 * FULL_ANGLE));
+            }
+        }
+        return angles;
+    }
+
+    private static void assertSameAngle(double expected, double actual, String description) {
+        double difference = Math.abs(expected - actual);
+        difference = Math.min(difference, FULL_ANGLE - difference);
+        assertTrue(difference <= TOLERANCE, description + ": expected " + expected + " but was " + actual);
+    }
+
+}